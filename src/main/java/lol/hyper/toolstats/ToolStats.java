@@ -25,11 +25,16 @@ import lol.hyper.toolstats.commands.CommandToolStats;
 import lol.hyper.toolstats.events.*;
 import lol.hyper.toolstats.support.rosestacker.RoseStacker;
 import lol.hyper.toolstats.tools.*;
+import lol.hyper.toolstats.tools.config.ConfigReloader;
+import lol.hyper.toolstats.tools.config.ConfigSchema;
 import lol.hyper.toolstats.tools.config.ConfigTools;
 import lol.hyper.toolstats.tools.config.ConfigUpdater;
+import lol.hyper.toolstats.tools.config.ItemToggle;
+import lol.hyper.toolstats.tools.config.Settings;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ShapedRecipe;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -37,10 +42,10 @@ import java.io.File;
 
 public final class ToolStats extends JavaPlugin {
 
-    public final int CONFIG_VERSION = 18;
+    public final int CONFIG_VERSION = 19;
     public final ComponentLogger logger = this.getComponentLogger();
     public final File configFile = new File(this.getDataFolder(), "config.yml");
-    public boolean tokens = false;
+    public volatile Settings settings;
 
     public BlockBreak blockBreak;
     public ChunkPopulate chunkPopulate;
@@ -57,14 +62,14 @@ public final class ToolStats extends JavaPlugin {
     public ItemLore itemLore;
     public InventoryOpen inventoryOpen;
     public PlayerJoin playerJoin;
-    public NumberFormat numberFormat;
-    public YamlConfiguration config;
     public HashMaker hashMaker;
     public CreativeEvent creativeEvent;
-    public PlayerMove playerMove;
+    public PlayerGlide playerGlide;
     public ItemChecker itemChecker;
     public ShootBow shootBow;
     public ConfigTools configTools;
+    public ConfigReloader configReloader;
+    public ConfigSchema configSchema;
     public TokenData tokenData;
     public AnvilEvent anvilEvent;
     public PrepareCraft prepareCraft;
@@ -75,6 +80,16 @@ public final class ToolStats extends JavaPlugin {
     public ToolStatsKeys toolStatsKeys;
     public InventoryClose inventoryClose;
     public PlayerDrop playerDrop;
+    public WorldLoad worldLoad;
+    public LazyLore lazyLore;
+    public StatBuffer statBuffer;
+    public StatStorage statStorage;
+    public ItemUpgrader itemUpgrader;
+    public StatBufferFlush statBufferFlush;
+    public ListenerManager listenerManager;
+    public ExpiringSets expiringSets;
+    public TridentStats tridentStats;
+    public TridentPickup tridentPickup;
     public RoseStacker roseStacker = null;
 
     @Override
@@ -92,17 +107,22 @@ public final class ToolStats extends JavaPlugin {
             logger.info("Copying default config!");
         }
 
-        loadConfig();
         configTools = new ConfigTools(this);
+        configReloader = new ConfigReloader(this);
+        configSchema = new ConfigSchema(this);
+        loadConfig();
         toolStatsKeys = new ToolStatsKeys(this);
         toolStatsKeys.make();
+        statStorage = new StatStorage(this);
+        itemUpgrader = new ItemUpgrader(this);
         tokenData = new TokenData(this);
         tokenData.setup();
-        for (ShapedRecipe recipe : tokenData.getRecipes()) {
-            if (tokens && config.getBoolean("tokens.craft-tokens")) {
+        if (settings.tokensEnabled && settings.craftTokens) {
+            for (ShapedRecipe recipe : tokenData.getRecipes()) {
                 Bukkit.addRecipe(recipe);
             }
         }
+        expiringSets = new ExpiringSets(this);
         hashMaker = new HashMaker(this);
         blockBreak = new BlockBreak(this);
         craftItem = new CraftItem(this);
@@ -120,7 +140,7 @@ public final class ToolStats extends JavaPlugin {
         inventoryOpen = new InventoryOpen(this);
         playerJoin = new PlayerJoin(this);
         creativeEvent = new CreativeEvent(this);
-        playerMove = new PlayerMove(this);
+        playerGlide = new PlayerGlide(this);
         itemChecker = new ItemChecker(this);
         itemChecker.setup();
         shootBow = new ShootBow(this);
@@ -130,33 +150,53 @@ public final class ToolStats extends JavaPlugin {
         projectileShoot = new ProjectileShoot(this);
         inventoryClose = new InventoryClose(this);
         playerDrop = new PlayerDrop(this);
+        worldLoad = new WorldLoad(this);
+        lazyLore = new LazyLore(this);
+        statBuffer = new StatBuffer(this);
+        tridentStats = new TridentStats(this);
+        tridentPickup = new TridentPickup(this);
+        statBufferFlush = new StatBufferFlush(this);
         if (Bukkit.getPluginManager().isPluginEnabled("RoseStacker")) {
             logger.info("RoseStacker has been detected, adding support!");
             roseStacker = new RoseStacker(this);
         }
 
-        Bukkit.getServer().getPluginManager().registerEvents(blockBreak, this);
-        Bukkit.getServer().getPluginManager().registerEvents(chunkPopulate, this);
-        Bukkit.getServer().getPluginManager().registerEvents(craftItem, this);
-        Bukkit.getServer().getPluginManager().registerEvents(entityDeath, this);
-        Bukkit.getServer().getPluginManager().registerEvents(generateLoot, this);
-        Bukkit.getServer().getPluginManager().registerEvents(pickupItem, this);
-        Bukkit.getServer().getPluginManager().registerEvents(mobKill, this);
-        Bukkit.getServer().getPluginManager().registerEvents(playerFish, this);
-        Bukkit.getServer().getPluginManager().registerEvents(playerInteract, this);
-        Bukkit.getServer().getPluginManager().registerEvents(sheepShear, this);
-        Bukkit.getServer().getPluginManager().registerEvents(villagerTrade, this);
-        Bukkit.getServer().getPluginManager().registerEvents(inventoryOpen, this);
-        Bukkit.getServer().getPluginManager().registerEvents(playerJoin, this);
-        Bukkit.getServer().getPluginManager().registerEvents(creativeEvent, this);
-        Bukkit.getServer().getPluginManager().registerEvents(shootBow, this);
-        Bukkit.getServer().getPluginManager().registerEvents(playerMove, this);
-        Bukkit.getServer().getPluginManager().registerEvents(anvilEvent, this);
-        Bukkit.getServer().getPluginManager().registerEvents(prepareCraft, this);
-        Bukkit.getServer().getPluginManager().registerEvents(blockDispenseEvent, this);
-        Bukkit.getServer().getPluginManager().registerEvents(projectileShoot, this);
-        Bukkit.getServer().getPluginManager().registerEvents(inventoryClose, this);
-        Bukkit.getServer().getPluginManager().registerEvents(playerDrop, this);
+        listenerManager = new ListenerManager(this);
+        listenerManager.add(blockBreak);
+        listenerManager.add(chunkPopulate, settings -> settings.elytraTag);
+        listenerManager.add(craftItem);
+        listenerManager.add(entityDeath);
+        listenerManager.add(generateLoot);
+        listenerManager.add(pickupItem, settings -> settings.elytraTag);
+        listenerManager.add(mobKill);
+        listenerManager.add(playerFish, settings -> settings.fishCaught || settings.isEnabledAnywhere(ItemToggle.FISHED_BY) || settings.isEnabledAnywhere(ItemToggle.FISHED_ON));
+        listenerManager.add(playerInteract);
+        listenerManager.add(sheepShear, settings -> settings.sheepSheared);
+        listenerManager.add(villagerTrade);
+        listenerManager.add(inventoryOpen);
+        listenerManager.add(playerJoin);
+        listenerManager.add(creativeEvent);
+        listenerManager.add(shootBow, settings -> settings.arrowsShot);
+        listenerManager.add(playerGlide, settings -> settings.flightTime, playerGlide::clear);
+        listenerManager.add(anvilEvent, settings -> settings.tokensEnabled);
+        listenerManager.add(prepareCraft, settings -> settings.tokensEnabled);
+        listenerManager.add(blockDispenseEvent);
+        listenerManager.add(projectileShoot, settings -> settings.tridentThrows);
+        listenerManager.add(tridentPickup);
+        listenerManager.add(inventoryClose);
+        listenerManager.add(playerDrop);
+        listenerManager.add(worldLoad);
+        listenerManager.add(lazyLore);
+        // armor damage is always saved up, so it needs the flushes too
+        listenerManager.add(statBufferFlush, settings -> settings.statBuffer || settings.armorDamage, () -> {
+            // write anything still saved up, since nothing will flush it on quit now
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                player.getScheduler().run(this, _ -> statBuffer.flush(player), null);
+            }
+        });
+        listenerManager.update(settings);
+        lazyLore.startSweep();
+        expiringSets.start();
 
         registerCommand("toolstats", commandToolStats);
 
@@ -167,22 +207,42 @@ public final class ToolStats extends JavaPlugin {
         updater.check();
     }
 
+    @Override
+    public void onDisable() {
+        // players are saved after plugins are disabled, so write and render their items now
+        // each part is checked on its own, in case enabling failed partway through
+        if (playerGlide != null) {
+            playerGlide.saveAll();
+        }
+        if (statBuffer != null) {
+            statBuffer.flushAll();
+        }
+        if (lazyLore != null) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                lazyLore.renderInventory(player.getInventory());
+            }
+        }
+    }
+
     public void loadConfig() {
-        config = YamlConfiguration.loadConfiguration(configFile);
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(configFile);
         if (config.getInt("config-version") != CONFIG_VERSION) {
             logger.warn("Your config file is outdated! We will try to update it, but you should regenerate it!");
             ConfigUpdater configUpdater = new ConfigUpdater(this);
-            configUpdater.updateConfig();
+            configUpdater.updateConfig(config);
         }
 
-        if (config.getBoolean("tokens.enabled")) {
+        configSchema.validate(config);
+        Settings newSettings = new Settings(this, config, settings);
+        if (newSettings.tokensEnabled) {
             logger.info("The token system is enabled! This means you must apply tokens to items in order for them to track.");
             logger.info("Item origins (crafted, traded, found, etc) will still apply to items.");
             logger.info("https://github.com/hyperdefined/ToolStats/wiki/Token-System");
         }
 
-        tokens = config.getBoolean("tokens.enabled");
-
-        numberFormat = new NumberFormat(this);
+        // swap in the compiled settings last so listeners never see a half loaded config
+        settings = newSettings;
+        configTools.rebuildWorldCache();
+        configTools.clearLoreCache();
     }
 }
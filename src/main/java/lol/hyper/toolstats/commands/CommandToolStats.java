@@ -19,8 +19,10 @@ package lol.hyper.toolstats.commands;
 
 import io.papermc.paper.command.brigadier.BasicCommand;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import lol.hyper.hyperlib.datatypes.UUIDDataType;
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
@@ -30,7 +32,6 @@ import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.ShapedRecipe;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
@@ -58,30 +59,7 @@ public class CommandToolStats implements BasicCommand {
         switch (args[0]) {
             case "reload": {
                 if (sender.hasPermission("toolstats.reload")) {
-                    boolean oldTokensStatus = toolStats.tokens;
-                    toolStats.loadConfig();
-                    toolStats.tokenData.getRecipes().clear();
-                    toolStats.tokenData.setup();
-                    // if the server went from tokens off -> on, add the recipes
-                    // if the server went from tokens on -> off, remove the recipes
-                    if (toolStats.tokens != oldTokensStatus) {
-                        // tokens are now enabled
-                        if (toolStats.tokens) {
-                            sender.sendMessage(Component.text("It looks like you ENABLED the token system. While this is fine, it can break. Please restart your server instead.", NamedTextColor.YELLOW));
-                            if (toolStats.config.getBoolean("tokens.craft-token")) {
-                                for (ShapedRecipe recipe : toolStats.tokenData.getRecipes()) {
-                                    Bukkit.addRecipe(recipe);
-                                }
-                            }
-                        } else {
-                            // tokens are now disabled
-                            sender.sendMessage(Component.text("It looks like you DISABLED the token system. While this is fine, it can break. Please restart your server instead.", NamedTextColor.YELLOW));
-                            for (ShapedRecipe recipe : toolStats.tokenData.getRecipes()) {
-                                Bukkit.removeRecipe(recipe.getKey());
-                            }
-                        }
-                    }
-                    sender.sendMessage(Component.text("Configuration reloaded!", NamedTextColor.GREEN));
+                    toolStats.configReloader.reload(sender);
                 } else {
                     sender.sendMessage(Component.text("You do not have permission for this command.", NamedTextColor.RED));
                 }
@@ -137,6 +115,8 @@ public class CommandToolStats implements BasicCommand {
                         return;
                     }
                     Player player = (Player) sender;
+                    // write any saved up stats before the item is changed
+                    toolStats.statBuffer.flush(player);
                     ItemStack heldItem = player.getInventory().getItemInMainHand();
                     if (!toolStats.itemChecker.isValidItem(heldItem.getType())) {
                         sender.sendMessage(Component.text("You must hold a valid item.", NamedTextColor.RED));
@@ -167,6 +147,8 @@ public class CommandToolStats implements BasicCommand {
                         return;
                     }
                     Player player = (Player) sender;
+                    // write any saved up stats before the item is changed
+                    toolStats.statBuffer.flush(player);
                     ItemStack heldItem = player.getInventory().getItemInMainHand();
                     if (!toolStats.itemChecker.isValidItem(heldItem.getType())) {
                         sender.sendMessage(Component.text("You must hold a valid item.", NamedTextColor.RED));
@@ -204,7 +186,7 @@ public class CommandToolStats implements BasicCommand {
                     return;
                 }
                 // make sure tokens are enabled before giving
-                if (!toolStats.config.getBoolean("tokens.enabled")) {
+                if (!toolStats.settings.tokensEnabled) {
                     sender.sendMessage(Component.text("Unable to give tokens. Tokens are disabled", NamedTextColor.RED));
                     return;
                 }
@@ -244,7 +226,7 @@ public class CommandToolStats implements BasicCommand {
                 }
                 //Make sure they typed in a valid stat
                 String stat = args[1];
-                if (!toolStats.tokenData.getTokenTypes().contains(stat)) {
+                if (StatType.fromName(stat) == null) {
                     sender.sendMessage(Component.text("That is not a valid stat.", NamedTextColor.RED));
                     return;
                 }
@@ -289,7 +271,7 @@ public class CommandToolStats implements BasicCommand {
         }
 
         if (container.has(toolStats.toolStatsKeys.getDroppedBy(), PersistentDataType.STRING)) {
-            if (toolStats.config.getBoolean("enabled.dropped-by")) {
+            if (toolStats.settings.droppedBy) {
                 if (container.has(toolStats.toolStatsKeys.getDroppedBy())) {
                     String droppedBy = container.get(toolStats.toolStatsKeys.getDroppedBy(), PersistentDataType.STRING);
                     lore.add(toolStats.configTools.formatLore("dropped-by", "{name}", droppedBy));
@@ -333,129 +315,22 @@ public class CommandToolStats implements BasicCommand {
                 }
             }
         }
-        if (toolStats.config.getBoolean("enabled.flight-time")) {
-            if (container.has(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG)) {
-                Long flightTime = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-                if (flightTime != null) {
-                    Map<String, String> flightTimeFormatted = toolStats.numberFormat.formatTime(flightTime);
-                    Component line = toolStats.configTools.formatLoreMultiplePlaceholders("flight-time", flightTimeFormatted);
-                    lore.add(line);
-                }
-            }
-        }
-        if (toolStats.configTools.checkConfig(original.getType(), "player-kills")) {
-            if (container.has(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER)) {
-                Integer kills = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-                if (kills != null) {
-                    lore.add(toolStats.configTools.formatLore("kills.player", "{kills}", toolStats.numberFormat.formatInt(kills)));
-                }
-            }
-        }
-        if (toolStats.configTools.checkConfig(original.getType(), "mob-kills")) {
-            if (container.has(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER)) {
-                Integer kills = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-                if (kills != null) {
-                    lore.add(toolStats.configTools.formatLore("kills.mob", "{kills}", toolStats.numberFormat.formatInt(kills)));
-                }
-            }
-        }
-        if (toolStats.configTools.checkConfig(original.getType(), "blocks-mined")) {
-            if (original.getType().toString().toLowerCase(Locale.ROOT).contains("hoe")) {
-                if (container.has(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER)) {
-                    Integer crops = container.get(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER);
-                    if (crops != null) {
-                        lore.add(toolStats.configTools.formatLore("crops-harvested", "{crops}", toolStats.numberFormat.formatInt(crops)));
-                    }
-                }
-            }
-            if (container.has(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER)) {
-                Integer blocksMined = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-                if (blocksMined != null) {
-                    lore.add(toolStats.configTools.formatLore("blocks-mined", "{blocks}", toolStats.numberFormat.formatInt(blocksMined)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.fish-caught")) {
-            if (container.has(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER)) {
-                Integer fish = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-                if (fish != null) {
-                    lore.add(toolStats.configTools.formatLore("fished.fish-caught", "{fish}", toolStats.numberFormat.formatInt(fish)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.sheep-sheared")) {
-            if (container.has(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER)) {
-                Integer sheep = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-                if (sheep != null) {
-                    lore.add(toolStats.configTools.formatLore("sheep-sheared", "{sheep}", toolStats.numberFormat.formatInt(sheep)));
-                }
+        for (StatType stat : StatType.values()) {
+            if (!stat.isEnabled(toolStats.settings, original.getType())) {
+                continue;
             }
-        }
-        if (toolStats.config.getBoolean("enabled.armor-damage")) {
-            if (container.has(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE)) {
-                Double damage = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-                if (damage != null) {
-                    lore.add(toolStats.configTools.formatLore("damage-taken", "{damage}", toolStats.numberFormat.formatDouble(damage)));
-                }
-            }
-        }
-        if (toolStats.configTools.checkConfig(original.getType(), "damage-done")) {
-            if (container.has(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE)) {
-                Double damage = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-                if (damage != null) {
-                    lore.add(toolStats.configTools.formatLore("damage-done", "{damage}", toolStats.numberFormat.formatDouble(damage)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.arrows-shot")) {
-            if (container.has(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER)) {
-                Integer arrows = container.get(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER);
-                if (arrows != null) {
-                    lore.add(toolStats.configTools.formatLore("arrows-shot", "{arrows}", toolStats.numberFormat.formatInt(arrows)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.bosses-killed.wither")) {
-            if (container.has(toolStats.toolStatsKeys.getWitherKills(), PersistentDataType.INTEGER)) {
-                Integer kills = container.get(toolStats.toolStatsKeys.getWitherKills(), PersistentDataType.INTEGER);
-                if (kills != null) {
-                    lore.add(toolStats.configTools.formatLore("bosses-killed.wither", "{kills}", toolStats.numberFormat.formatInt(kills)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.bosses-killed.enderdragon")) {
-            if (container.has(toolStats.toolStatsKeys.getEnderDragonKills(), PersistentDataType.INTEGER)) {
-                Integer kills = container.get(toolStats.toolStatsKeys.getEnderDragonKills(), PersistentDataType.INTEGER);
-                if (kills != null) {
-                    lore.add(toolStats.configTools.formatLore("bosses-killed.enderdragon", "{kills}", toolStats.numberFormat.formatInt(kills)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.critical-strikes")) {
-            if (container.has(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER)) {
-                Integer strikes = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-                if (strikes != null) {
-                    lore.add(toolStats.configTools.formatLore("critical-strikes", "{strikes}", toolStats.numberFormat.formatInt(strikes)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.trident-throws")) {
-            if (container.has(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER)) {
-                Integer tridentThrows = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-                if (tridentThrows != null) {
-                    lore.add(toolStats.configTools.formatLore("trident-throws", "{times}", toolStats.numberFormat.formatInt(tridentThrows)));
-                }
-            }
-        }
-        if (toolStats.config.getBoolean("enabled.logs-stripped")) {
-            if (container.has(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER)) {
-                Integer logsStripped = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-                if (logsStripped != null) {
-                    lore.add(toolStats.configTools.formatLore("logs-stripped", "{logs}", toolStats.numberFormat.formatInt(logsStripped)));
+            Number value = toolStats.statStorage.read(container, stat);
+            if (value != null) {
+                Component line = toolStats.itemLore.formatStat(stat, value);
+                if (line != null) {
+                    lore.add(line);
                 }
             }
         }
         finalMeta.lore(lore);
+        // the lore was rebuilt, so every line has to be found again
+        container.remove(toolStats.toolStatsKeys.getLoreIndex());
+        container.remove(toolStats.toolStatsKeys.getShownStats());
         finalItem.setItemMeta(finalMeta);
         int slot = player.getInventory().getHeldItemSlot();
         player.getInventory().setItem(slot, finalItem);
@@ -475,1081 +350,117 @@ public class CommandToolStats implements BasicCommand {
 
     /**
      * Add a stat to an item, setting it to zero.
-     * @param stat The stat to add.
+     * @param statName The stat to add.
      * @param player The player running the command.
      */
-    private void addStat(String stat, Player player) {
+    private void addStat(String statName, Player player) {
         PlayerInventory playerInventory = player.getInventory();
+        toolStats.statBuffer.flush(player);
         ItemStack heldItem = playerInventory.getItemInMainHand();
-        ItemMeta heldItemMeta = heldItem.getItemMeta();
-        if (heldItemMeta == null) {
+        if (heldItem.isEmpty()) {
             return;
         }
-        if (toolStats.itemChecker.checkTokens(heldItemMeta.getPersistentDataContainer(), stat)) {
+        StatType stat = StatType.fromName(statName);
+        if (stat == null) {
+            player.sendMessage(Component.text("That is not a valid stat.", NamedTextColor.RED));
+            return;
+        }
+        if (toolStats.itemChecker.checkTokens(heldItem.getPersistentDataContainer(), stat)) {
             player.sendMessage(Component.text("This item already has this stat.", NamedTextColor.RED));
             return;
         }
-
-        if (stat.equalsIgnoreCase("remove") || stat.equalsIgnoreCase("reset")) {
-            player.sendMessage(Component.text("That is not a valid stat.", NamedTextColor.RED));
+        if (!stat.isEnabled(toolStats.settings, heldItem.getType())) {
+            player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
             return;
         }
 
         ItemStack newItem = toolStats.itemChecker.addToken(heldItem, stat);
-        switch (stat) {
-            case "crops-mined": {
-                if (toolStats.config.getBoolean("enabled.crops-harvested")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateCropsMined(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "blocks-mined": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "blocks-mined")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateBlocksMined(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "damage-taken": {
-                if (toolStats.config.getBoolean("enabled.armor-damage")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateArmorDamage(newItem, 0.0, false));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "damage-done": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "damage-done")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateWeaponDamage(newItem, 0.0, false));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "mob-kills": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "mob-kills")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateMobKills(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "player-kills": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "player-kills")) {
-                    newItem.setItemMeta(toolStats.itemLore.updatePlayerKills(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "arrows-shot": {
-                if (toolStats.config.getBoolean("enabled.arrows-shot")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateArrowsShot(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "sheep-sheared": {
-                if (toolStats.config.getBoolean("enabled.sheep-sheared")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateSheepSheared(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "flight-time": {
-                if (toolStats.config.getBoolean("enabled.flight-time")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateFlightTime(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "fish-caught": {
-                if (toolStats.config.getBoolean("enabled.fish-caught")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateFishCaught(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "wither-kills": {
-                if (toolStats.config.getBoolean("enabled.bosses-killed.wither")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateBossesKilled(newItem, 0, "wither"));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "enderdragon-kills": {
-                if (toolStats.config.getBoolean("enabled.bosses-killed.enderdragon")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateBossesKilled(newItem, 0, "enderdragon"));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "critical-strikes": {
-                if (toolStats.config.getBoolean("enabled.critical-strikes")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateCriticalStrikes(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "trident-throws": {
-                if (toolStats.config.getBoolean("enabled.trident-throws")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateTridentThrows(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "logs-stripped": {
-                if (toolStats.config.getBoolean("enabled.logs-stripped")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateLogsStripped(newItem, 0));
-                } else {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-        }
-        player.sendMessage(Component.text(stat + " has been added!", NamedTextColor.GREEN));
+        toolStats.itemLore.updateStat(newItem, stat, 0);
+        toolStats.itemLore.renderLore(newItem);
+        player.sendMessage(Component.text(statName + " has been added!", NamedTextColor.GREEN));
     }
 
     /**
      * Handle edit subcommand.
      *
-     * @param stat      The stat to edit.
+     * @param statName  The stat to edit.
      * @param userValue The value the user entered.
      * @param player    The player using the command.
      */
-    private void handleEdit(String stat, Object userValue, Player player) {
-        boolean updated = false;
+    private void handleEdit(String statName, Object userValue, Player player) {
+        toolStats.statBuffer.flush(player);
         ItemStack editedItem = player.getInventory().getItemInMainHand().clone();
         if (!toolStats.itemChecker.isValidItem(editedItem.getType())) {
             player.sendMessage(Component.text("This is not a valid item.", NamedTextColor.RED));
             return;
         }
-        ItemMeta editedItemMeta = editedItem.getItemMeta();
-        PersistentDataContainer container = editedItemMeta.getPersistentDataContainer();
-        switch (stat) {
-            case "crops-harvested": {
-                if (!toolStats.config.getBoolean("enabled.crops-harvested")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getCropsHarvested())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateCropsMined(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "blocks-mined": {
-                if (!toolStats.configTools.checkConfig(editedItem.getType(), "blocks-mined")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getBlocksMined())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateBlocksMined(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "damage-taken": {
-                if (!toolStats.config.getBoolean("enabled.armor-damage")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getArmorDamage())) {
-                    double value;
-                    try {
-                        value = Double.parseDouble((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Double statValue = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    double difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateArmorDamage(editedItem, difference, false);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "damage-done": {
-                if (!toolStats.configTools.checkConfig(editedItem.getType(), "damage-done")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getDamageDone())) {
-                    double value;
-                    try {
-                        value = Double.parseDouble((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Double statValue = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    double difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateWeaponDamage(editedItem, difference, false);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "mob-kills": {
-                if (!toolStats.configTools.checkConfig(editedItem.getType(), "mob-kills")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getMobKills())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateMobKills(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "player-kills": {
-                if (!toolStats.configTools.checkConfig(editedItem.getType(), "player-kills")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getPlayerKills())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updatePlayerKills(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "arrows-shot": {
-                if (!toolStats.config.getBoolean("enabled.arrows-shot")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getArrowsShot())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateArrowsShot(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "sheep-sheared": {
-                if (!toolStats.config.getBoolean("enabled.sheep-sheared")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getSheepSheared())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateSheepSheared(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "flight-time": {
-                if (!toolStats.config.getBoolean("enabled.flight-time")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getFlightTime())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Long statValue = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    long difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateFlightTime(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "fight-caught": {
-                if (!toolStats.config.getBoolean("enabled.fight-caught")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getFishCaught())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateFishCaught(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "wither-kills": {
-                if (!toolStats.config.getBoolean("enabled.bosses-killed.wither")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getWitherKills())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getWitherKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateBossesKilled(editedItem, difference, "wither");
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "enderdragon-kills": {
-                if (!toolStats.config.getBoolean("enabled.bosses-killed.enderdragon")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getEnderDragonKills())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getEnderDragonKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateBossesKilled(editedItem, difference, "enderdragon");
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "critical-strikes": {
-                if (!toolStats.config.getBoolean("enabled.critical-strikes")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getCriticalStrikes())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateCriticalStrikes(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "trident-throws": {
-                if (!toolStats.config.getBoolean("enabled.trident-throws")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getTridentThrows())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateTridentThrows(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            case "logs-stripped": {
-                if (!toolStats.config.getBoolean("enabled.logs-stripped")) {
-                    player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
-                    return;
-                }
-                if (container.has(toolStats.toolStatsKeys.getLogsStripped())) {
-                    int value;
-                    try {
-                        value = Integer.parseInt((String) userValue);
-                    } catch (NumberFormatException exception) {
-                        player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
-                        return;
-                    }
-                    if (value < 0) {
-                        player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
-                        return;
-                    }
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    int difference = value - statValue;
-                    editedItemMeta = toolStats.itemLore.updateLogsStripped(editedItem, difference);
-                    updated = true;
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                }
-                break;
-            }
-            default: {
-                player.sendMessage(Component.text("That is not a valid stat to update.", NamedTextColor.RED));
-                return;
-            }
+        StatType stat = StatType.fromName(statName);
+        if (stat == null) {
+            player.sendMessage(Component.text("That is not a valid stat to update.", NamedTextColor.RED));
+            return;
+        }
+        if (!stat.isEnabled(toolStats.settings, editedItem.getType())) {
+            player.sendMessage(Component.text("This stat is disabled.", NamedTextColor.RED));
+            return;
+        }
+        PersistentDataContainerView container = editedItem.getPersistentDataContainer();
+        if (!toolStats.statStorage.has(container, stat)) {
+            player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
+            return;
         }
 
-        if (updated) {
-            editedItem.setItemMeta(editedItemMeta);
+        Number value;
+        try {
+            value = switch (stat.getValueType()) {
+                case INTEGER -> Integer.parseInt((String) userValue);
+                case DOUBLE -> Double.parseDouble((String) userValue);
+                case DURATION -> Long.parseLong((String) userValue);
+            };
+        } catch (NumberFormatException exception) {
+            player.sendMessage(Component.text("That is not a valid number.", NamedTextColor.RED));
+            return;
+        }
+        if (value.doubleValue() < 0) {
+            player.sendMessage(Component.text("Number must be positive.", NamedTextColor.RED));
+            return;
+        }
+        if (toolStats.itemLore.setStat(editedItem, stat, value)) {
+            toolStats.itemLore.renderLore(editedItem);
             player.getInventory().setItemInMainHand(editedItem);
-            player.sendMessage(Component.text("Updated stat " + stat + " for held item!", NamedTextColor.GREEN));
+            player.sendMessage(Component.text("Updated stat " + statName + " for held item!", NamedTextColor.GREEN));
         }
     }
 
     /**
      * Handle remove subcommand.
      *
-     * @param stat   The stat to remove.
-     * @param player The player using the command.
+     * @param statName The stat to remove.
+     * @param player   The player using the command.
      */
-    private void handleRemove(String stat, Player player) {
+    private void handleRemove(String statName, Player player) {
+        toolStats.statBuffer.flush(player);
         ItemStack editedItem = player.getInventory().getItemInMainHand().clone();
         if (!toolStats.itemChecker.isValidItem(editedItem.getType())) {
             player.sendMessage(Component.text("This is not a valid item.", NamedTextColor.RED));
             return;
         }
-        ItemMeta editedItemMeta = editedItem.getItemMeta();
-        PersistentDataContainer container = editedItemMeta.getPersistentDataContainer();
-        switch (stat) {
-            case "crops-harvested": {
-                if (container.has(toolStats.toolStatsKeys.getCropsHarvested())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getCropsHarvested());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "crops-mined");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("crops-harvested", "{crops}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "blocks-mined": {
-                if (container.has(toolStats.toolStatsKeys.getBlocksMined())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getBlocksMined());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "blocks-mined");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("blocks-mined", "{blocks}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "damage-taken": {
-                if (container.has(toolStats.toolStatsKeys.getArmorDamage())) {
-                    Double statValue = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getArmorDamage());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "damage-taken");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("damage-taken", "{damage}", toolStats.numberFormat.formatDouble(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "damage-done": {
-                if (container.has(toolStats.toolStatsKeys.getDamageDone())) {
-                    Double statValue = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getDamageDone());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "damage-done");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("damage-done", "{damage}", toolStats.numberFormat.formatDouble(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "mob-kills": {
-                if (container.has(toolStats.toolStatsKeys.getMobKills())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getMobKills());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "mob-kills");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("kills.mob", "{kills}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "player-kills": {
-                if (container.has(toolStats.toolStatsKeys.getPlayerKills())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getPlayerKills());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "player-kills");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("kills.player", "{kills}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "sheep-sheared": {
-                if (container.has(toolStats.toolStatsKeys.getSheepSheared())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getSheepSheared());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "sheep-sheared");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("sheep-sheared", "{sheep}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "flight-time": {
-                if (container.has(toolStats.toolStatsKeys.getFlightTime())) {
-                    Long statValue = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getFlightTime());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "flight-time");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Map<String, String> timeFormatted = toolStats.numberFormat.formatTime(statValue);
-                    Component oldLine = toolStats.configTools.formatLoreMultiplePlaceholders("flight-time", timeFormatted);
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "fish-caught": {
-                if (container.has(toolStats.toolStatsKeys.getFishCaught())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getFishCaught());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "fish-caught");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("fished.fish-caught", "{fish}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "wither-kills": {
-                if (container.has(toolStats.toolStatsKeys.getWitherKills())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getWitherKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getWitherKills());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "wither-kills");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("bosses-killed.wither", "{kills}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "enderdragon-kills": {
-                if (container.has(toolStats.toolStatsKeys.getEnderDragonKills())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getEnderDragonKills(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getEnderDragonKills());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "enderdragon-kills");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("bosses-killed.enderdragon", "{kills}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "critical-strikes": {
-                if (container.has(toolStats.toolStatsKeys.getCriticalStrikes())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getCriticalStrikes());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "critical-strikes");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("critical-strikes", "{strikes}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "trident-throws": {
-                if (container.has(toolStats.toolStatsKeys.getTridentThrows())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getTridentThrows());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "trident-throws");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("trident-throws", "{times}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            case "logs-stripped": {
-                if (container.has(toolStats.toolStatsKeys.getLogsStripped())) {
-                    Integer statValue = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-                    if (statValue == null) {
-                        player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (tokens == null) {
-                        player.sendMessage(Component.text("Unable to get tokens from item.", NamedTextColor.RED));
-                        return;
-                    }
-                    container.remove(toolStats.toolStatsKeys.getLogsStripped());
-                    List<String> newTokens = toolStats.itemChecker.removeToken(tokens, "logs-stripped");
-                    if (newTokens.isEmpty()) {
-                        container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                    } else {
-                        container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                    }
-
-                    Component oldLine = toolStats.configTools.formatLore("logs-stripped", "{logs}", toolStats.numberFormat.formatInt(statValue));
-                    List<Component> newLore = toolStats.itemLore.removeLore(editedItemMeta.lore(), oldLine);
-                    editedItemMeta.lore(newLore);
-                } else {
-                    player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
-                    return;
-                }
-                break;
-            }
-            default: {
-                player.sendMessage(Component.text("That is not a valid stat to update.", NamedTextColor.RED));
-                return;
-            }
+        StatType stat = StatType.fromName(statName);
+        if (stat == null) {
+            player.sendMessage(Component.text("That is not a valid stat to update.", NamedTextColor.RED));
+            return;
+        }
+        if (!toolStats.statStorage.has(editedItem.getPersistentDataContainer(), stat)) {
+            player.sendMessage(Component.text("This item does not have that stat.", NamedTextColor.RED));
+            return;
+        }
+        if (!toolStats.itemLore.removeStat(editedItem, stat)) {
+            player.sendMessage(Component.text("Unable to get stat from item.", NamedTextColor.RED));
+            return;
         }
-        editedItem.setItemMeta(editedItemMeta);
         player.getInventory().setItemInMainHand(editedItem);
-        player.sendMessage(Component.text("Removed stat " + stat + " for held item!", NamedTextColor.GREEN));
+        player.sendMessage(Component.text("Removed stat " + statName + " for held item!", NamedTextColor.GREEN));
     }
 
-
-
     @Override
     public @NonNull Collection<String> suggest(@NonNull CommandSourceStack source, String[] args) {
         CommandSender sender = source.getSender();
@@ -1623,7 +534,7 @@ public class CommandToolStats implements BasicCommand {
 
         // suggest token types for givetokens
         if (args.length == 3 && args[0].equalsIgnoreCase("givetokens") && sender.hasPermission("toolstats.givetokens")) {
-            return toolStats.tokenData.getTokenTypes();
+            return new ArrayList<>(toolStats.tokenData.getTokenTypes());
         }
         return Collections.emptyList();
     }
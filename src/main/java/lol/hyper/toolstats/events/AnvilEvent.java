@@ -18,6 +18,7 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.Material;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -25,11 +26,12 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.PrepareAnvilEvent;
 import org.bukkit.inventory.AnvilInventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 
 public class AnvilEvent implements Listener {
 
@@ -42,7 +44,7 @@ public class AnvilEvent implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onAnvilEvent(PrepareAnvilEvent event) {
         // only listen if the token system is enabled
-        if (!toolStats.config.getBoolean("tokens.enabled")) {
+        if (!toolStats.settings.tokensEnabled) {
             return;
         }
         AnvilInventory inventory = event.getInventory();
@@ -232,291 +234,44 @@ public class AnvilEvent implements Listener {
             return;
         }
 
+        StatType stat = StatType.fromName(targetToken);
+        if (stat == null) {
+            event.setResult(null);
+            return;
+        }
+
         // if the item already has the token, ignore
-        if (toolStats.itemChecker.checkTokens(firstSlotItem.getItemMeta().getPersistentDataContainer(), targetToken)) {
+        if (toolStats.itemChecker.checkTokens(firstSlotItem.getPersistentDataContainer(), stat)) {
             event.setResult(null);
             return;
         }
 
         // apply the token and set the result
-        ItemStack newItem = toolStats.itemChecker.addToken(firstSlotItem, targetToken);
-        switch (targetToken) {
-            case "crops-mined": {
-                if (toolStats.config.getBoolean("enabled.crops-harvested")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateCropsMined(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "blocks-mined": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "blocks-mined")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateBlocksMined(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "damage-taken": {
-                if (toolStats.config.getBoolean("enabled.armor-damage")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateArmorDamage(newItem, 0.0, false));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "damage-done": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "damage-done")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateWeaponDamage(newItem, 0.0, false));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "mob-kills": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "mob-kills")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateMobKills(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "player-kills": {
-                if (toolStats.configTools.checkConfig(newItem.getType(), "player-kills")) {
-                    newItem.setItemMeta(toolStats.itemLore.updatePlayerKills(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "arrows-shot": {
-                if (toolStats.config.getBoolean("enabled.arrows-shot")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateArrowsShot(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "sheep-sheared": {
-                if (toolStats.config.getBoolean("enabled.sheep-sheared")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateSheepSheared(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "flight-time": {
-                if (toolStats.config.getBoolean("enabled.flight-time")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateFlightTime(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "fish-caught": {
-                if (toolStats.config.getBoolean("enabled.fish-caught")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateFishCaught(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "wither-kills": {
-                if (toolStats.config.getBoolean("enabled.bosses-killed.wither")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateBossesKilled(newItem, 0, "wither"));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "enderdragon-kills": {
-                if (toolStats.config.getBoolean("enabled.bosses-killed.enderdragon")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateBossesKilled(newItem, 0, "enderdragon"));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "critical-strikes": {
-                if (toolStats.config.getBoolean("enabled.critical-strikes")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateCriticalStrikes(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "trident-throws": {
-                if (toolStats.config.getBoolean("enabled.trident-throws")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateTridentThrows(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
-            case "logs-stripped": {
-                if (toolStats.config.getBoolean("enabled.logs-stripped")) {
-                    newItem.setItemMeta(toolStats.itemLore.updateLogsStripped(newItem, 0));
-                } else {
-                    event.setResult(null);
-                    return;
-                }
-                break;
-            }
+        if (!stat.isEnabled(toolStats.settings, firstSlotItem.getType())) {
+            event.setResult(null);
+            return;
         }
+        ItemStack newItem = toolStats.itemChecker.addToken(firstSlotItem, stat);
+        toolStats.itemLore.updateStat(newItem, stat, 0);
+        toolStats.itemLore.renderLore(newItem);
         event.setResult(newItem);
         event.getView().setRepairCost(toolStats.itemChecker.getCost(targetToken));
     }
 
     /**
-     * Reset an item's stats. This function is... gross.
-     * Because of how the lore system is set up, we have to basically revert the stats.
-     * The lore function requires the old value, then adds x to the current stat.
-     * This is required, so it can find the old line in the lore and update it.
-     * So we simply make the stat negative, and add it to reset it to zero.
-     * Gross? Yeah, but I don't want to rewrite the lore system again...
+     * Reset an item's stats to zero, in one update.
      *
      * @param event     The PrepareAnvilEvent event.
      * @param inputItem The input item to reset.
      */
     private void reset(PrepareAnvilEvent event, ItemStack inputItem) {
         ItemStack finalItem = inputItem.clone();
-        ItemMeta meta = finalItem.getItemMeta();
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        if (container.has(toolStats.toolStatsKeys.getPlayerKills())) {
-            Integer playerKills = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-            if (playerKills == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updatePlayerKills(finalItem, -playerKills);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getMobKills())) {
-            Integer mobKills = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-            if (mobKills == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateMobKills(finalItem, -mobKills);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getBlocksMined())) {
-            Integer blocksMined = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-            if (blocksMined == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateBlocksMined(finalItem, -blocksMined);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getCropsHarvested())) {
-            Integer cropsHarvested = container.get(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER);
-            if (cropsHarvested == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateCropsMined(finalItem, -cropsHarvested);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getFishCaught())) {
-            Integer fishCaught = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-            if (fishCaught == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateFishCaught(finalItem, -fishCaught);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getSheepSheared())) {
-            Integer sheepSheared = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-            if (sheepSheared == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateSheepSheared(finalItem, -sheepSheared);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getArmorDamage())) {
-            Double armorDamage = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-            if (armorDamage == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateArmorDamage(finalItem, -armorDamage, true);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getDamageDone())) {
-            Double damageDone = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-            if (damageDone == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateArmorDamage(finalItem, -damageDone, true);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getArrowsShot())) {
-            Integer arrowsShot = container.get(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER);
-            if (arrowsShot == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateArrowsShot(finalItem, -arrowsShot);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getFlightTime())) {
-            Long flightTime = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-            if (flightTime == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateFlightTime(finalItem, -flightTime);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getWitherKills())) {
-            Integer witherKills = container.get(toolStats.toolStatsKeys.getWitherKills(), PersistentDataType.INTEGER);
-            if (witherKills == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateBossesKilled(finalItem, -witherKills, "wither");
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getEnderDragonKills())) {
-            Integer enderDragonKills = container.get(toolStats.toolStatsKeys.getEnderDragonKills(), PersistentDataType.INTEGER);
-            if (enderDragonKills == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateBossesKilled(finalItem, -enderDragonKills, "enderdragon");
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getCriticalStrikes())) {
-            Integer criticalStrikes = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-            if (criticalStrikes == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateCriticalStrikes(finalItem, -criticalStrikes);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getTridentThrows())) {
-            Integer tridentThrows = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-            if (tridentThrows == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateTridentThrows(finalItem, -tridentThrows);
-            finalItem.setItemMeta(meta);
-        }
-        if (container.has(toolStats.toolStatsKeys.getLogsStripped())) {
-            Integer logsStripped = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-            if (logsStripped == null) {
-                return;
-            }
-            meta = toolStats.itemLore.updateLogsStripped(finalItem, -logsStripped);
-            finalItem.setItemMeta(meta);
+        Map<StatType, Number> changes = new EnumMap<>(StatType.class);
+        for (Map.Entry<StatType, Number> entry : toolStats.statStorage.readAll(inputItem.getPersistentDataContainer()).entrySet()) {
+            changes.put(entry.getKey(), entry.getKey().getValueType().negate(entry.getValue()));
         }
+        toolStats.itemLore.updateStats(finalItem, changes);
+        toolStats.itemLore.renderLore(finalItem);
         event.setResult(finalItem);
         event.getView().setRepairCost(toolStats.itemChecker.getCost("reset"));
     }
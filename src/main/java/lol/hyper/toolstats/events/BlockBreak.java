@@ -18,8 +18,11 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.ExpiringSet;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.*;
 import org.bukkit.block.Block;
+import org.bukkit.block.Container;
 import org.bukkit.block.data.Ageable;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
@@ -28,30 +31,29 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockDropItemEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 
 public class BlockBreak implements Listener {
 
     private final ToolStats toolStats;
-    public final List<Block> brokenContainers = new ArrayList<>();
+    public final ExpiringSet brokenContainers;
 
     public BlockBreak(ToolStats toolStats) {
         this.toolStats = toolStats;
+        this.brokenContainers = toolStats.expiringSets.create(20);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
         PlayerInventory inventory = player.getInventory();
@@ -60,7 +62,6 @@ public class BlockBreak implements Listener {
 
         if (block.getType() == Material.CHEST || block.getType() == Material.BARREL) {
             brokenContainers.add(block);
-            Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, scheduledTask -> brokenContainers.remove(block), 20);
         }
 
         // only check certain items
@@ -76,64 +77,43 @@ public class BlockBreak implements Listener {
                 if (ageable.getAge() != ageable.getMaximumAge()) {
                     return;
                 }
-                ItemMeta newMeta = toolStats.itemLore.updateCropsMined(heldItem, 1);
-                if (newMeta != null) {
-                    // replace item in main hand
-                    heldItem.setItemMeta(newMeta);
-                }
+                toolStats.statBuffer.add(player, EquipmentSlot.HAND, heldItem, StatType.CROPS_HARVESTED, 1);
             } else {
                 // item is a hoe, but not breaking crops
-                ItemMeta newMeta = toolStats.itemLore.updateBlocksMined(heldItem, 1);
-                if (newMeta != null) {
-                    // replace item in main hand
-                    heldItem.setItemMeta(newMeta);
-                }
+                toolStats.statBuffer.add(player, EquipmentSlot.HAND, heldItem, StatType.BLOCKS_MINED, 1);
             }
         } else {
             // item is not a hoe
             // update the blocks mined
-            ItemMeta newMeta = toolStats.itemLore.updateBlocksMined(heldItem, 1);
-            if (newMeta != null) {
-                // replace item in main hand
-                heldItem.setItemMeta(newMeta);
-            }
+            toolStats.statBuffer.add(player, EquipmentSlot.HAND, heldItem, StatType.BLOCKS_MINED, 1);
         }
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onBreak(BlockDropItemEvent event) {
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
 
-        Location eventLocation = event.getBlock().getLocation();
-        Chunk eventChunk = eventLocation.getChunk();
-        Bukkit.getRegionScheduler().runDelayed(toolStats, eventLocation.getWorld(), eventChunk.getX(), eventChunk.getZ(), scheduledTask -> {
-            boolean validLootDrops = false;
-            for (Location droppedLootLocation : toolStats.generateLoot.droppedLootLocations) {
-                if (eventLocation.getWorld() == droppedLootLocation.getWorld()) {
-                    double distance = droppedLootLocation.distance(eventLocation);
-                    if (distance <= 1.0) {
-                        validLootDrops = true;
-                    }
-                }
+        // only containers can drop generated loot
+        if (!(event.getBlockState() instanceof Container)) {
+            return;
+        }
+        // the loot was generated while the block was broken, before this event
+        if (!toolStats.generateLoot.droppedLootLocations.remove(event.getBlock())) {
+            return;
+        }
+        for (Item droppedItemEntity : event.getItems()) {
+            ItemStack droppedItem = droppedItemEntity.getItemStack();
+            if (!toolStats.itemChecker.isValidItem(droppedItem.getType())) {
+                continue;
             }
 
-            if (validLootDrops) {
-                toolStats.generateLoot.droppedLootLocations.remove(eventLocation);
-                for (Item droppedItemEntity : event.getItems()) {
-                    ItemStack droppedItem = droppedItemEntity.getItemStack();
-                    if (!toolStats.itemChecker.isValidItem(droppedItem.getType())) {
-                        continue;
-                    }
-
-                    ItemStack newItem = toolStats.inventoryClose.addLootedOrigin(droppedItem, player);
-                    if (newItem != null) {
-                        droppedItemEntity.setItemStack(newItem);
-                    }
-                }
+            ItemStack newItem = toolStats.inventoryClose.addLootedOrigin(droppedItem, player);
+            if (newItem != null) {
+                droppedItemEntity.setItemStack(newItem);
             }
-        }, 1);
+        }
     }
 }
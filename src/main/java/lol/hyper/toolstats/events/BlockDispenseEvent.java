@@ -52,10 +52,10 @@ public class BlockDispenseEvent implements Listener {
             return;
         }
 
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
 
@@ -95,8 +95,8 @@ public class BlockDispenseEvent implements Listener {
         }
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
         PersistentDataContainer container = meta.getPersistentDataContainer();
@@ -115,7 +115,7 @@ public class BlockDispenseEvent implements Listener {
 
         // by request
         if (newItem.getType() == Material.ELYTRA) {
-            if (!toolStats.config.getBoolean("enabled.elytra-tag")) {
+            if (!toolStats.settings.elytraTag) {
                 return null;
             }
 
@@ -155,7 +155,7 @@ public class BlockDispenseEvent implements Listener {
         }
 
         // if hash is enabled, add it
-        if (toolStats.config.getBoolean("generate-hash-for-items")) {
+        if (toolStats.settings.generateHash) {
             String hash = toolStats.hashMaker.makeHash(newItem.getType(), owner.getUniqueId(), timeCreated);
             container.set(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING, hash);
         }
@@ -47,10 +47,10 @@ public class CraftItem implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onCraft(CraftItemEvent event) {
         Player player = (Player) event.getWhoClicked();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
         ItemStack craftedItem = event.getCurrentItem();
@@ -122,8 +122,8 @@ public class CraftItem implements Listener {
         // get the current time
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
         PersistentDataContainer container = meta.getPersistentDataContainer();
@@ -161,7 +161,7 @@ public class CraftItem implements Listener {
         }
 
         // if hash is enabled, add it
-        if (toolStats.config.getBoolean("generate-hash-for-items")) {
+        if (toolStats.settings.generateHash) {
             String hash = toolStats.hashMaker.makeHash(newItem.getType(), owner.getUniqueId(), timeCreated);
             container.set(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING, hash);
         }
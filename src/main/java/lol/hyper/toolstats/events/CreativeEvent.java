@@ -46,7 +46,7 @@ public class CreativeEvent implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onCreativeEvent(InventoryCreativeEvent event) {
         Player player = (Player) event.getWhoClicked();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
         // make sure they are in creative mode
@@ -93,8 +93,8 @@ public class CreativeEvent implements Listener {
         // get the current time
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
         PersistentDataContainer container = meta.getPersistentDataContainer();
@@ -132,7 +132,7 @@ public class CreativeEvent implements Listener {
         }
 
         // if hash is enabled, add it
-        if (toolStats.config.getBoolean("generate-hash-for-items")) {
+        if (toolStats.settings.generateHash) {
             String hash = toolStats.hashMaker.makeHash(newSpawnedItem.getType(), owner.getUniqueId(), timeCreated);
             container.set(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING, hash);
         }
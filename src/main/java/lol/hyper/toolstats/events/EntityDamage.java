@@ -18,7 +18,8 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
-import org.bukkit.Bukkit;
+import lol.hyper.toolstats.tools.ExpiringSet;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
 import org.bukkit.entity.*;
@@ -27,23 +28,25 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.Damageable;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.projectiles.ProjectileSource;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 public class EntityDamage implements Listener {
 
     private final ToolStats toolStats;
     // track mobs that are killed by a player
-    public final Set<UUID> trackedMobs = new HashSet<>();
+    public final ExpiringSet trackedMobs;
     private final List<EntityDamageEvent.DamageCause> ignoredCauses = Arrays.asList(EntityDamageEvent.DamageCause.SUICIDE, EntityDamageEvent.DamageCause.VOID, EntityDamageEvent.DamageCause.CUSTOM, EntityDamageEvent.DamageCause.KILL);
 
     public EntityDamage(ToolStats toolStats) {
         this.toolStats = toolStats;
+        this.trackedMobs = toolStats.expiringSets.create(20);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -52,7 +55,7 @@ public class EntityDamage implements Listener {
             return;
         }
 
-        if (!toolStats.configTools.checkWorld(mobBeingAttacked.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(mobBeingAttacked.getWorld())) {
             return;
         }
 
@@ -67,12 +70,11 @@ public class EntityDamage implements Listener {
         boolean playerBeingAttacked = mobBeingAttacked instanceof Player;
         double finalDamage = event.getFinalDamage();
         boolean modDied = mobBeingAttacked.getHealth() - finalDamage <= 0;
-        EntityType mobAttackedType = event.getEntityType();
         boolean critical = event.isCritical();
 
         if (playerBeingAttacked) {
             Player player = (Player) event.getEntity();
-            if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+            if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
                 return;
             }
             if (player.isBlocking()) {
@@ -84,7 +86,7 @@ public class EntityDamage implements Listener {
         // player attacks something
         if (playerAttacking) {
             Player player = (Player) damager;
-            if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+            if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
                 return;
             }
             PlayerInventory playerAttackingInventory = player.getInventory();
@@ -93,64 +95,42 @@ public class EntityDamage implements Listener {
                 return;
             }
 
+            // everything from this hit is written to the weapon at once
+            Map<StatType, Number> changes = new EnumMap<>(StatType.class);
             // update their weapon's damage
-            updateWeaponDamage(playerAttackingInventory, event.getFinalDamage());
-
+            addDamage(changes, finalDamage);
             // if the player crit
             if (critical) {
-                updateCriticalStrikes(playerAttackingInventory);
+                changes.put(StatType.CRITICAL_STRIKES, 1);
             }
-
             // the mob the player attacked died
             if (modDied) {
-                // player killed another player
-                if (playerBeingAttacked) {
-                    updateWeaponKills(playerAttackingInventory, "player", null);
-                } else {
-                    // player kills a regular mob
-                    updateWeaponKills(playerAttackingInventory, "mob", mobBeingAttacked);
-                    if (mobAttackedType == EntityType.WITHER) {
-                        updateBossesKilled(playerAttackingInventory, "wither", mobBeingAttacked);
-                    }
-                    if (mobAttackedType == EntityType.ENDER_DRAGON) {
-                        updateBossesKilled(playerAttackingInventory, "enderdragon", mobBeingAttacked);
-                    }
-                }
+                addKills(changes, mobBeingAttacked, count -> toolStats.statBuffer.add(player, EquipmentSlot.HAND, playerAttackingInventory.getItemInMainHand(), StatType.MOB_KILLS, count));
             }
+            toolStats.statBuffer.add(player, EquipmentSlot.HAND, playerAttackingInventory.getItemInMainHand(), changes);
 
             trackedMobs.add(mobBeingAttacked.getUniqueId());
-            Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, scheduledTask -> trackedMobs.remove(mobBeingAttacked.getUniqueId()), 20);
         }
 
         // something was hit by a trident
         if (damager instanceof Trident trident) {
             ProjectileSource source = trident.getShooter();
             if (source instanceof Player player) {
-                if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+                if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
                     return;
                 }
+                // stats are kept on the trident entity until it's picked up
+                Map<StatType, Number> changes = new EnumMap<>(StatType.class);
                 // update the trident's tracked damage
-                updateTridentDamage(trident, finalDamage);
-
+                addDamage(changes, finalDamage);
                 // if the mob died from the trident
                 if (modDied) {
-                    // if the trident killed a player, update the kills
-                    if (playerBeingAttacked) {
-                        updateTridentKills(trident, "player", null);
-                    } else {
-                        // the trident killed a mob, update the kills
-                        updateTridentKills(trident, "mob", mobBeingAttacked);
-                        if (mobAttackedType == EntityType.WITHER) {
-                            updateBossesKilled(player.getInventory(), "wither", mobBeingAttacked);
-                        }
-                        if (mobAttackedType == EntityType.ENDER_DRAGON) {
-                            updateBossesKilled(player.getInventory(), "enderdragon", mobBeingAttacked);
-                        }
-                    }
+                    // later kills are counted on the mob's region, so hop over to the trident
+                    addKills(changes, mobBeingAttacked, count -> trident.getScheduler().run(toolStats, _ -> toolStats.tridentStats.add(trident, StatType.MOB_KILLS, count), null));
                 }
+                toolStats.tridentStats.add(trident, changes);
 
                 trackedMobs.add(mobBeingAttacked.getUniqueId());
-                Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, scheduledTask -> trackedMobs.remove(mobBeingAttacked.getUniqueId()), 20);
             }
         }
 
@@ -160,31 +140,24 @@ public class EntityDamage implements Listener {
 
             // a player shot the arrow
             if (source instanceof Player shootingPlayer) {
-                if (shootingPlayer.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+                if (shootingPlayer.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
                     return;
                 }
-                // update the player's bow damage
-                updateBowDamage(shootingPlayer.getInventory(), finalDamage);
-
-                // if the mob died from the arrow
-                if (modDied) {
-                    if (playerBeingAttacked) {
-                        // player killed another player with an arrow
-                        updateBowKills(shootingPlayer.getInventory(), "player", null);
-                    } else {
-                        // player killed mob with an arrow
-                        updateBowKills(shootingPlayer.getInventory(), "mob", mobBeingAttacked);
-                        if (mobAttackedType == EntityType.WITHER) {
-                            updateBossesKilledByBow(shootingPlayer.getInventory(), "wither", mobBeingAttacked);
-                        }
-                        if (mobAttackedType == EntityType.ENDER_DRAGON) {
-                            updateBossesKilledByBow(shootingPlayer.getInventory(), "enderdragon", mobBeingAttacked);
-                        }
+                PlayerInventory shootingInventory = shootingPlayer.getInventory();
+                EquipmentSlot bowSlot = toolStats.itemChecker.getBowSlot(shootingInventory);
+                if (bowSlot != null) {
+                    ItemStack heldBow = shootingInventory.getItem(bowSlot);
+                    Map<StatType, Number> changes = new EnumMap<>(StatType.class);
+                    // update the player's bow damage
+                    addDamage(changes, finalDamage);
+                    // if the mob died from the arrow
+                    if (modDied) {
+                        addKills(changes, mobBeingAttacked, count -> toolStats.statBuffer.add(shootingPlayer, bowSlot, heldBow, StatType.MOB_KILLS, count));
                     }
+                    toolStats.statBuffer.add(shootingPlayer, bowSlot, heldBow, changes);
                 }
 
                 trackedMobs.add(mobBeingAttacked.getUniqueId());
-                Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, scheduledTask -> trackedMobs.remove(mobBeingAttacked.getUniqueId()), 20);
             }
         }
     }
@@ -203,271 +176,80 @@ public class EntityDamage implements Listener {
 
         // player is taking damage
         if (mobBeingAttacked instanceof Player playerTakingDamage) {
-            if (playerTakingDamage.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+            if (playerTakingDamage.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
                 return;
             }
-            updateArmorDamage(playerTakingDamage.getInventory(), event.getFinalDamage());
-        }
-    }
-
-    private void updateArmorDamage(PlayerInventory playerInventory, double damage) {
-        ItemStack[] armorContents = playerInventory.getArmorContents();
-        for (ItemStack armorPiece : armorContents) {
-            if (armorPiece != null) {
-                if (toolStats.itemChecker.isArmor(armorPiece.getType())) {
-                    ItemMeta newItem = toolStats.itemLore.updateArmorDamage(armorPiece, damage, false);
-                    if (newItem != null) {
-                        armorPiece.setItemMeta(newItem);
-                    }
-                }
+            double damage = event.getFinalDamage();
+            // ignore if the damage is negative
+            if (damage < 0) {
+                return;
             }
+            toolStats.statBuffer.addArmor(playerTakingDamage, StatType.DAMAGE_TAKEN, damage);
         }
-        // apply the new armor
-        playerInventory.setArmorContents(armorContents);
     }
 
-    private void updateBowDamage(PlayerInventory playerInventory, double damage) {
-        ItemStack heldBow = toolStats.itemChecker.getBow(playerInventory);
-        if (heldBow == null) {
-            return;
-        }
-
-        boolean isMain = playerInventory.getItemInMainHand().getType() == Material.BOW || playerInventory.getItemInMainHand().getType() == Material.CROSSBOW;
-        boolean isOffHand = playerInventory.getItemInOffHand().getType() == Material.BOW || playerInventory.getItemInOffHand().getType() == Material.CROSSBOW;
-        ItemMeta newBowDamage = toolStats.itemLore.updateWeaponDamage(heldBow, damage, false);
-
-        // player is shooting another player
-        if (newBowDamage != null) {
-            if (isMain && isOffHand) {
-                playerInventory.getItemInMainHand().setItemMeta(newBowDamage);
-            } else if (isMain) {
-                playerInventory.getItemInMainHand().setItemMeta(newBowDamage);
-            } else if (isOffHand) {
-                playerInventory.getItemInOffHand().setItemMeta(newBowDamage);
-            }
+    /**
+     * Add damage to a batch of stat changes.
+     *
+     * @param changes The batch.
+     * @param damage  The damage dealt.
+     */
+    private void addDamage(Map<StatType, Number> changes, double damage) {
+        // ignore if the damage is negative
+        if (damage >= 0) {
+            changes.put(StatType.DAMAGE_DONE, damage);
         }
     }
 
-    private void updateBowKills(PlayerInventory playerInventory, String type, LivingEntity entity) {
-        ItemStack heldBow = toolStats.itemChecker.getBow(playerInventory);
-        if (heldBow == null) {
+    /**
+     * Add the kill stats for a killed mob or player to a batch of stat changes.
+     * If RoseStacker only knows how many mobs died a tick later, those mob kills
+     * can't be part of the batch, so they are given to laterKills instead.
+     *
+     * @param changes    The batch.
+     * @param entity     What was killed.
+     * @param laterKills Adds mob kills to the item on their own.
+     */
+    private void addKills(Map<StatType, Number> changes, LivingEntity entity, Consumer<Integer> laterKills) {
+        // player killed another player
+        if (entity instanceof Player) {
+            changes.put(StatType.PLAYER_KILLS, 1);
             return;
         }
-
-        boolean isMain = playerInventory.getItemInMainHand().getType() == Material.BOW || playerInventory.getItemInMainHand().getType() == Material.CROSSBOW;
-        boolean isOffHand = playerInventory.getItemInOffHand().getType() == Material.BOW || playerInventory.getItemInOffHand().getType() == Material.CROSSBOW;
-
-        if (type.equalsIgnoreCase("mob")) {
-            // player is shooting a mob
-            if (toolStats.roseStacker != null) {
-                toolStats.roseStacker.countMobs(entity, count -> {
-                    ItemMeta newBow = toolStats.itemLore.updateMobKills(heldBow, count);
-                    if (newBow != null) {
-                        if (isMain && isOffHand) {
-                            playerInventory.getItemInMainHand().setItemMeta(newBow);
-                        } else if (isMain) {
-                            playerInventory.getItemInMainHand().setItemMeta(newBow);
-                        } else if (isOffHand) {
-                            playerInventory.getItemInOffHand().setItemMeta(newBow);
-                        }
-                    }
-                });
-                return;
-            }
-            ItemMeta newBow = toolStats.itemLore.updateMobKills(heldBow, 1);
-            if (newBow != null) {
-                if (isMain && isOffHand) {
-                    playerInventory.getItemInMainHand().setItemMeta(newBow);
-                } else if (isMain) {
-                    playerInventory.getItemInMainHand().setItemMeta(newBow);
-                } else if (isOffHand) {
-                    playerInventory.getItemInOffHand().setItemMeta(newBow);
-                }
-            }
+        if (entity.getType() == EntityType.WITHER) {
+            changes.put(StatType.WITHER_KILLS, 1);
         }
-
-        if (type.equalsIgnoreCase("player")) {
-            ItemMeta newBowKills = toolStats.itemLore.updatePlayerKills(heldBow, 1);
-            if (newBowKills != null) {
-                if (isMain && isOffHand) {
-                    playerInventory.getItemInMainHand().setItemMeta(newBowKills);
-                } else if (isMain) {
-                    playerInventory.getItemInMainHand().setItemMeta(newBowKills);
-                } else if (isOffHand) {
-                    playerInventory.getItemInOffHand().setItemMeta(newBowKills);
-                }
-            }
+        if (entity.getType() == EntityType.ENDER_DRAGON) {
+            changes.put(StatType.ENDER_DRAGON_KILLS, 1);
         }
-    }
-
-    private void updateTridentKills(Trident trident, String type, LivingEntity entity) {
-        ItemStack newTrident = trident.getItemStack();
-        if (type.equalsIgnoreCase("player")) {
-            ItemMeta newTridentMeta = toolStats.itemLore.updatePlayerKills(trident.getItemStack(), 1);
-            if (newTridentMeta != null) {
-                newTrident.setItemMeta(newTridentMeta);
-                trident.setItemStack(newTrident);
-            }
+        if (toolStats.roseStacker == null) {
+            changes.put(StatType.MOB_KILLS, 1);
             return;
         }
-        if (type.equalsIgnoreCase("mob")) {
-            if (toolStats.roseStacker != null) {
-                toolStats.roseStacker.countMobs(entity, count -> {
-                    ItemMeta newTridentMeta = toolStats.itemLore.updateMobKills(newTrident, count);
-                    if (newTridentMeta != null) {
-                        newTrident.setItemMeta(newTridentMeta);
-                        trident.setItemStack(newTrident);
-                    }
-                });
-                return;
-            }
-            ItemMeta newTridentMeta = toolStats.itemLore.updateMobKills(trident.getItemStack(), 1);
-            if (newTridentMeta != null) {
-                newTrident.setItemMeta(newTridentMeta);
-                trident.setItemStack(newTrident);
-            }
-        }
-    }
-
-    private void updateTridentDamage(Trident trident, double damage) {
-        ItemStack newTrident = trident.getItemStack();
-        ItemMeta newDamage = toolStats.itemLore.updateWeaponDamage(trident.getItemStack(), damage, false);
-        if (newDamage != null) {
-            newTrident.setItemMeta(newDamage);
-            trident.setItemStack(newTrident);
-        }
-    }
-
-    private void updateWeaponDamage(PlayerInventory playerInventory, double damage) {
-        ItemStack heldWeapon = playerInventory.getItemInMainHand();
-        ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateWeaponDamage(heldWeapon, damage, false);
-        if (newHeldWeaponMeta != null) {
-            playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-        }
-    }
-
-    private void updateWeaponKills(PlayerInventory playerInventory, String type, LivingEntity entity) {
-        ItemStack heldWeapon = playerInventory.getItemInMainHand();
-        if (type.equalsIgnoreCase("player")) {
-            ItemMeta newHeldWeaponMeta = toolStats.itemLore.updatePlayerKills(heldWeapon, 1);
-            if (newHeldWeaponMeta != null) {
-                playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-            }
-            return;
-        }
-        if (type.equalsIgnoreCase("mob")) {
-            if (toolStats.roseStacker != null) {
-                toolStats.roseStacker.countMobs(entity, count -> {
-                    ItemStack currentHeldWeapon = playerInventory.getItemInMainHand();
-                    ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateMobKills(currentHeldWeapon, count);
-                    if (newHeldWeaponMeta != null) {
-                        currentHeldWeapon.setItemMeta(newHeldWeaponMeta);
-                    }
-                });
+        // if the stack is counted right away, it goes in the batch
+        AtomicBoolean batching = new AtomicBoolean(true);
+        toolStats.roseStacker.countMobs(entity, count -> {
+            if (batching.get()) {
+                changes.put(StatType.MOB_KILLS, count);
             } else {
-                ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateMobKills(heldWeapon, 1);
-                if (newHeldWeaponMeta != null) {
-                    playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-                }
+                laterKills.accept(count);
             }
-        }
+        });
+        batching.set(false);
     }
 
-    private void updateBossesKilled(PlayerInventory playerInventory, String boss, LivingEntity entity) {
-        ItemStack heldWeapon = playerInventory.getItemInMainHand();
-        int count = 1;
-        if (toolStats.roseStacker != null) {
-            //count = toolStats.roseStacker.countMobs(entity);
-        }
-        ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateBossesKilled(heldWeapon, count, boss);
-        if (newHeldWeaponMeta != null) {
-            playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-        }
-    }
-
-    private void updateBossesKilledByBow(PlayerInventory playerInventory, String boss, LivingEntity entity) {
-        ItemStack heldBow = toolStats.itemChecker.getBow(playerInventory);
-        if (heldBow == null) {
-            return;
-        }
-
-        boolean isMain = playerInventory.getItemInMainHand().getType() == Material.BOW || playerInventory.getItemInMainHand().getType() == Material.CROSSBOW;
-        boolean isOffHand = playerInventory.getItemInOffHand().getType() == Material.BOW || playerInventory.getItemInOffHand().getType() == Material.CROSSBOW;
-
-        if (toolStats.roseStacker != null) {
-            toolStats.roseStacker.countMobs(entity, count -> {
-                ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateBossesKilled(heldBow, count, boss);
-                if (newHeldWeaponMeta != null) {
-                    if (isMain && isOffHand) {
-                        playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-                    } else if (isMain) {
-                        playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-                    } else if (isOffHand) {
-                        playerInventory.getItemInOffHand().setItemMeta(newHeldWeaponMeta);
-                    }
-                }
-            });
+    private void updateShieldDamage(PlayerInventory playerInventory, double damage) {
+        // ignore if the damage is negative
+        if (damage < 0) {
             return;
         }
-
-        ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateBossesKilled(heldBow, 1, boss);
-        if (newHeldWeaponMeta != null) {
-            if (isMain && isOffHand) {
-                playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-            } else if (isMain) {
-                playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-            } else if (isOffHand) {
-                playerInventory.getItemInOffHand().setItemMeta(newHeldWeaponMeta);
-            }
-        }
-    }
-
-    private void updateCriticalStrikes(PlayerInventory playerInventory) {
-        ItemStack heldWeapon = playerInventory.getItemInMainHand();
-        ItemMeta newHeldWeaponMeta = toolStats.itemLore.updateCriticalStrikes(heldWeapon, 1);
-        if (newHeldWeaponMeta != null) {
-            playerInventory.getItemInMainHand().setItemMeta(newHeldWeaponMeta);
-        }
-    }
-
-    private void updateShieldDamage(PlayerInventory playerInventory, double damage) {
-        boolean isMain = playerInventory.getItemInMainHand().getType() == Material.SHIELD;
-        boolean isOffHand = playerInventory.getItemInOffHand().getType() == Material.SHIELD;
-
-        ItemStack heldShield;
-        if (isMain && isOffHand) {
-            heldShield = playerInventory.getItemInMainHand();
-            int shieldDamage = (heldShield.getItemMeta() instanceof Damageable d) ? d.getDamage() : 0;
-
-            ItemMeta newShieldMeta = toolStats.itemLore.updateArmorDamage(heldShield, damage, false);
-            if (newShieldMeta != null) {
-                if (newShieldMeta instanceof Damageable dNew) {
-                    dNew.setDamage(shieldDamage);
-                }
-                playerInventory.getItemInMainHand().setItemMeta(newShieldMeta);
-            }
-        } else if (isMain) {
-            heldShield = playerInventory.getItemInMainHand();
-            int shieldDamage = (heldShield.getItemMeta() instanceof Damageable d) ? d.getDamage() : 0;
-
-            ItemMeta newShieldMeta = toolStats.itemLore.updateArmorDamage(heldShield, damage, false);
-            if (newShieldMeta != null) {
-                if (newShieldMeta instanceof Damageable dNew) {
-                    dNew.setDamage(shieldDamage);
-                }
-                playerInventory.getItemInMainHand().setItemMeta(newShieldMeta);
-            }
-        } else if (isOffHand) {
+        // the shield's durability is not touched, so only the stat changes
+        ItemStack heldShield = playerInventory.getItemInMainHand();
+        if (heldShield.getType() != Material.SHIELD) {
             heldShield = playerInventory.getItemInOffHand();
-            int shieldDamage = (heldShield.getItemMeta() instanceof Damageable d) ? d.getDamage() : 0;
-
-            ItemMeta newShieldMeta = toolStats.itemLore.updateArmorDamage(heldShield, damage, false);
-            if (newShieldMeta != null) {
-                if (newShieldMeta instanceof Damageable dNew) {
-                    dNew.setDamage(shieldDamage);
-                }
-                playerInventory.getItemInOffHand().setItemMeta(newShieldMeta);
-            }
+        }
+        if (heldShield.getType() == Material.SHIELD) {
+            toolStats.itemLore.updateStat(heldShield, StatType.DAMAGE_TAKEN, damage);
         }
     }
 }
@@ -49,7 +49,7 @@ public class EntityDeath implements Listener {
         if (livingEntity instanceof Player) {
             return;
         }
-        if (!toolStats.configTools.checkWorld(livingEntity.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(livingEntity.getWorld())) {
             return;
         }
         UUID livingEntityUUID = event.getEntity().getUniqueId();
@@ -91,13 +91,13 @@ public class EntityDeath implements Listener {
 
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
 
         PersistentDataContainer container = meta.getPersistentDataContainer();
-        String mobName = toolStats.config.getString("messages.mob." + entity.getType());
+        String mobName = toolStats.settings.config.getString("messages.mob." + entity.getType());
         if (mobName == null) {
             mobName = entity.getName();
         }
@@ -118,7 +118,7 @@ public class EntityDeath implements Listener {
             meta.lore(lore);
         }
 
-        if (toolStats.config.getBoolean("enabled.dropped-by")) {
+        if (toolStats.settings.droppedBy) {
             container.set(toolStats.toolStatsKeys.getOriginType(), PersistentDataType.INTEGER, 1);
             container.set(toolStats.toolStatsKeys.getDroppedBy(), PersistentDataType.STRING, mobName);
             Component droppedBy = toolStats.configTools.formatLore("dropped-by", "{name}", mobName);
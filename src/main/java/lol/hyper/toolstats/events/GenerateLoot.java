@@ -18,10 +18,9 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
-import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
+import lol.hyper.toolstats.tools.ExpiringSet;
+import lol.hyper.toolstats.tools.LootedInventories;
 import org.bukkit.Location;
-import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.entity.minecart.StorageMinecart;
 import org.bukkit.event.EventHandler;
@@ -31,19 +30,16 @@ import org.bukkit.event.world.LootGenerateEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 public class GenerateLoot implements Listener {
 
     private final ToolStats toolStats;
-    public final Map<Inventory, Location> generatedInventory = new HashMap<>();
-    public final List<Location> droppedLootLocations = new ArrayList<>();
+    public final LootedInventories generatedInventory;
+    public final ExpiringSet droppedLootLocations;
 
     public GenerateLoot(ToolStats toolStats) {
         this.toolStats = toolStats;
+        this.generatedInventory = new LootedInventories(toolStats);
+        this.droppedLootLocations = toolStats.expiringSets.create(20);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -53,47 +49,25 @@ public class GenerateLoot implements Listener {
             return;
         }
         Location lootLocation = event.getLootContext().getLocation();
-        if (!toolStats.configTools.checkWorld(lootLocation.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(lootLocation.getWorld())) {
             return;
         }
-        Chunk lootChunk = lootLocation.getChunk();
-        Bukkit.getRegionScheduler().runDelayed(toolStats, lootLocation.getWorld(), lootChunk.getX(), lootChunk.getZ(), scheduledTask -> {
-            if (inventoryHolder instanceof Container) {
-                Block openedChest = null;
-                Location chestLocation = null;
-                // look at the current list of opened chest and get the distance
-                // between the LootContext location and chest location
-                // if the distance is less than 1, it's the same chest
-                for (Block chest : toolStats.playerInteract.openedChests) {
-                    chestLocation = chest.getLocation();
-                    if (chest.getWorld() == lootLocation.getWorld()) {
-                        double distance = lootLocation.distance(chestLocation);
-                        if (distance <= 1.0) {
-                            openedChest = chest;
-                        }
-                    }
-                }
-                for (Block brokenChest : toolStats.blockBreak.brokenContainers) {
-                    Location brokenChestLocation = brokenChest.getLocation();
-                    if (brokenChestLocation.getWorld() == lootLocation.getWorld()) {
-                        double distance = lootLocation.distance(brokenChestLocation);
-                        if (distance <= 1.0) {
-                            droppedLootLocations.add(brokenChestLocation);
-                            Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, scheduledTask2 -> droppedLootLocations.remove(brokenChestLocation), 20);
-                        }
-                    }
-                }
-                // ignore if the chest is not in the same location
-                if (openedChest != null) {
-                    generatedInventory.put(inventoryHolder.getInventory(), chestLocation);
-                }
+        // loot is generated right after the player opens or breaks the container, so check now
+        if (inventoryHolder instanceof Container) {
+            // the loot is generated at the center of the container's block
+            if (toolStats.blockBreak.brokenContainers.contains(lootLocation)) {
+                droppedLootLocations.add(lootLocation);
+            }
+            // ignore if a player didn't just open this chest
+            if (toolStats.playerInteract.openedChests.contains(lootLocation)) {
+                generatedInventory.put(inventoryHolder.getInventory(), lootLocation.toBlockLocation());
             }
-            if (inventoryHolder instanceof StorageMinecart mineCart) {
-                if (toolStats.playerInteract.openedMineCarts.contains(mineCart)) {
-                    Inventory mineCartInventory = mineCart.getInventory();
-                    generatedInventory.put(mineCartInventory, mineCart.getLocation());
-                }
+        }
+        if (inventoryHolder instanceof StorageMinecart mineCart) {
+            if (toolStats.playerInteract.openedMineCarts.contains(mineCart.getUniqueId())) {
+                Inventory mineCartInventory = mineCart.getInventory();
+                generatedInventory.put(mineCartInventory, mineCart.getLocation());
             }
-        }, 1);
+        }
     }
 }
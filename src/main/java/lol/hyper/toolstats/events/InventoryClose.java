@@ -57,15 +57,13 @@ public class InventoryClose implements Listener {
         }
 
         Player player = (Player) event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
         Inventory closedInventory = event.getInventory();
         InventoryHolder holder = closedInventory.getHolder();
-        if (toolStats.generateLoot.generatedInventory.containsKey(closedInventory)) {
-            Location chestLocation = toolStats.generateLoot.generatedInventory.get(closedInventory);
-            toolStats.generateLoot.generatedInventory.remove(closedInventory);
-
+        Location chestLocation = toolStats.generateLoot.generatedInventory.remove(closedInventory);
+        if (chestLocation != null) {
             player.getScheduler().runDelayed(toolStats, scheduledTask -> {
                 PlayerInventory playerInventory = player.getInventory();
                 for (int i = 0; i < playerInventory.getContents().length; i++) {
@@ -148,8 +146,8 @@ public class InventoryClose implements Listener {
         }
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
         PersistentDataContainer container = meta.getPersistentDataContainer();
@@ -185,7 +183,7 @@ public class InventoryClose implements Listener {
         }
 
         // if hash is enabled, add it
-        if (toolStats.config.getBoolean("generate-hash-for-items")) {
+        if (toolStats.settings.generateHash) {
             String hash = toolStats.hashMaker.makeHash(newItem.getType(), owner.getUniqueId(), timeCreated);
             container.set(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING, hash);
         }
@@ -0,0 +1,142 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.events;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+/**
+ * Renders the lore of items updated with lazy lore, once the item can be seen.
+ * The handlers stay registered when lazy lore is off, so items from before it was
+ * turned off still get their lore updated.
+ * Rendering edits items in place, so the handlers run at HIGHEST, since MONITOR
+ * handlers must not change the outcome of an event.
+ */
+public class LazyLore implements Listener {
+
+    private final ToolStats toolStats;
+    private ScheduledTask sweepTask;
+
+    public LazyLore(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Start or restart the sweep that renders every player's inventory,
+     * using the current settings.
+     */
+    public void startSweep() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        int interval = toolStats.settings.lazyLoreSweepInterval;
+        if (!toolStats.settings.lazyLore || interval <= 0) {
+            return;
+        }
+        sweepTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(toolStats, _ -> {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                player.getScheduler().run(toolStats, _ -> renderInventory(player.getInventory()), null);
+            }
+        }, interval, interval);
+    }
+
+    /**
+     * Render every item in an inventory.
+     *
+     * @param inventory The inventory.
+     */
+    public void renderInventory(Inventory inventory) {
+        for (ItemStack item : inventory) {
+            toolStats.itemLore.renderLore(item);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onHeld(PlayerItemHeldEvent event) {
+        PlayerInventory inventory = event.getPlayer().getInventory();
+        toolStats.itemLore.renderLore(inventory.getItem(event.getPreviousSlot()));
+        toolStats.itemLore.renderLore(inventory.getItem(event.getNewSlot()));
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        Item droppedItem = event.getItemDrop();
+        // the entity only gives us a copy
+        ItemStack item = droppedItem.getItemStack();
+        if (toolStats.itemLore.renderLore(item)) {
+            droppedItem.setItemStack(item);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onOpen(InventoryOpenEvent event) {
+        renderInventory(event.getInventory());
+        renderInventory(event.getPlayer().getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onClick(InventoryClickEvent event) {
+        toolStats.itemLore.renderLore(event.getCurrentItem());
+        // swapping with a hotbar slot moves that item too
+        if (event.getHotbarButton() != -1) {
+            toolStats.itemLore.renderLore(event.getWhoClicked().getInventory().getItem(event.getHotbarButton()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onMove(InventoryMoveItemEvent event) {
+        // hoppers move items all the time, only check them while lazy lore is on
+        if (!toolStats.settings.lazyLore) {
+            return;
+        }
+        ItemStack item = event.getItem();
+        if (toolStats.itemLore.renderLore(item)) {
+            event.setItem(item);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onDeath(PlayerDeathEvent event) {
+        for (ItemStack item : event.getDrops()) {
+            toolStats.itemLore.renderLore(item);
+        }
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        // render before the player is saved
+        renderInventory(event.getPlayer().getInventory());
+    }
+}
@@ -51,10 +51,10 @@ public class PickupItem implements Listener {
     public void onPickup(EntityPickupItemEvent event) {
         Entity entity = event.getEntity();
         if (entity instanceof Player player) {
-            if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+            if (!toolStats.configTools.checkWorld(player.getWorld())) {
                 return;
             }
-            if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+            if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
                 return;
             }
             Item item = event.getItem();
@@ -92,18 +92,18 @@ public class PickupItem implements Listener {
         }
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
         PersistentDataContainer container = meta.getPersistentDataContainer();
 
-        if (!toolStats.config.getBoolean("enabled.elytra-tag")) {
+        if (!toolStats.settings.elytraTag) {
             return null;
         }
 
         // only make the hash if it's enabled
-        if (toolStats.config.getBoolean("generate-hash-for-items")) {
+        if (toolStats.settings.generateHash) {
             String hash = toolStats.hashMaker.makeHash(finalItem.getType(), owner.getUniqueId(), timeCreated);
             container.set(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING, hash);
         }
@@ -37,7 +37,7 @@ public class PlayerDrop implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onDrop(PlayerDropItemEvent event) {
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
 
@@ -47,7 +47,7 @@ public class PlayerDrop implements Listener {
 
         player.getScheduler().runDelayed(toolStats, scheduledTask -> {
             Inventory opened = player.getOpenInventory().getTopInventory();
-            if (toolStats.generateLoot.generatedInventory.containsKey(opened)) {
+            if (toolStats.generateLoot.generatedInventory.contains(opened)) {
                 Item droppedItemEntity = event.getItemDrop();
                 ItemStack droppedItem = droppedItemEntity.getItemStack();
 
@@ -19,15 +19,16 @@ package lol.hyper.toolstats.events;
 
 import lol.hyper.hyperlib.datatypes.UUIDDataType;
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
 import net.kyori.adventure.text.Component;
 import org.bukkit.GameMode;
-import org.bukkit.Material;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerFishEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -54,33 +55,22 @@ public class PlayerFish implements Listener {
         }
 
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
 
-        ItemStack fishingRod = toolStats.itemChecker.getFishingRod(player.getInventory());
+        PlayerInventory inventory = player.getInventory();
+        EquipmentSlot rodSlot = toolStats.itemChecker.getFishingRodSlot(inventory);
         // player swapped items?
-        if (fishingRod == null) {
+        if (rodSlot == null) {
             return;
         }
 
         // update the fishing rod!
-        ItemMeta newFishingRod = toolStats.itemLore.updateFishCaught(fishingRod, 1);
-        if (newFishingRod != null) {
-            PlayerInventory inventory = player.getInventory();
-            boolean isMain = inventory.getItemInMainHand().getType() == Material.FISHING_ROD;
-            boolean isOffHand = inventory.getItemInOffHand().getType() == Material.FISHING_ROD;
-            if (isMain && isOffHand) {
-                inventory.getItemInMainHand().setItemMeta(newFishingRod);
-            } else if (isMain) {
-                inventory.getItemInMainHand().setItemMeta(newFishingRod);
-            } else if (isOffHand) {
-                inventory.getItemInOffHand().setItemMeta(newFishingRod);
-            }
-        }
+        toolStats.statBuffer.add(player, rodSlot, inventory.getItem(rodSlot), StatType.FISH_CAUGHT, 1);
 
         // check if the player caught an item
         if (event.getCaught() == null) {
@@ -111,8 +101,8 @@ public class PlayerFish implements Listener {
         }
         long timeCreated = System.currentTimeMillis();
         Date finalDate;
-        if (toolStats.config.getBoolean("normalize-time-creation")) {
-            finalDate = toolStats.numberFormat.normalizeTime(timeCreated);
+        if (toolStats.settings.normalizeTimeCreation) {
+            finalDate = toolStats.settings.numberFormat.normalizeTime(timeCreated);
             timeCreated = finalDate.getTime();
         }
         PersistentDataContainer container = meta.getPersistentDataContainer();
@@ -148,7 +138,7 @@ public class PlayerFish implements Listener {
         }
 
         // if hash is enabled, add it
-        if (toolStats.config.getBoolean("generate-hash-for-items")) {
+        if (toolStats.settings.generateHash) {
             String hash = toolStats.hashMaker.makeHash(newItem.getType(), owner.getUniqueId(), timeCreated);
             container.set(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING, hash);
         }
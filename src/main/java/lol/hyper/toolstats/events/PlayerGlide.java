@@ -0,0 +1,203 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.events;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityToggleGlideEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PlayerGlide implements Listener {
+
+    // long flights are saved every minute, so a crash doesn't lose all of it
+    private static final long CHECKPOINT_TICKS = 20 * 60;
+
+    private final ToolStats toolStats;
+    private final Map<UUID, Flight> flights = new ConcurrentHashMap<>();
+
+    public PlayerGlide(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGlide(EntityToggleGlideEvent event) {
+        if (!(event.getEntity() instanceof Player player)) {
+            return;
+        }
+        if (event.isGliding()) {
+            startFlight(player);
+        } else {
+            endFlight(player, List.of());
+        }
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        endFlight(event.getPlayer(), List.of());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onDeath(PlayerDeathEvent event) {
+        // the drops are copies made before this event, so they need the flight time too
+        endFlight(event.getPlayer(), event.getDrops());
+    }
+
+    @EventHandler
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        Player player = event.getPlayer();
+        if (!flights.containsKey(player.getUniqueId())) {
+            return;
+        }
+        // save the flight so far, then keep going if this world is tracked
+        endFlight(player, List.of());
+        if (player.isGliding()) {
+            startFlight(player);
+        }
+    }
+
+    /**
+     * Save and stop every flight, for when the plugin is disabled.
+     */
+    public void saveAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            endFlight(player, List.of());
+        }
+    }
+
+    /**
+     * Stop tracking every flight without saving it, for when flight time is turned off.
+     */
+    public void clear() {
+        for (Flight flight : flights.values()) {
+            if (flight.checkpoint != null) {
+                flight.checkpoint.cancel();
+            }
+        }
+        flights.clear();
+    }
+
+    /**
+     * Start tracking a player's flight.
+     *
+     * @param player The player.
+     */
+    private void startFlight(Player player) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
+            return;
+        }
+        UUID uuid = player.getUniqueId();
+        if (flights.containsKey(uuid)) {
+            return;
+        }
+        ScheduledTask checkpoint = player.getScheduler().runAtFixedRate(toolStats, _ -> checkpoint(player), null, CHECKPOINT_TICKS, CHECKPOINT_TICKS);
+        flights.put(uuid, new Flight(System.currentTimeMillis(), checkpoint));
+    }
+
+    /**
+     * Save the flight time so far, and keep tracking.
+     *
+     * @param player The player.
+     */
+    private void checkpoint(Player player) {
+        Flight flight = flights.get(player.getUniqueId());
+        if (flight == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        addFlightTime(player, now - flight.start, List.of());
+        flights.put(player.getUniqueId(), new Flight(now, flight.checkpoint));
+    }
+
+    /**
+     * Stop tracking a player's flight and save the flight time.
+     *
+     * @param player The player.
+     * @param copies Copies of the player's armor that should get the flight time too.
+     */
+    private void endFlight(Player player, List<ItemStack> copies) {
+        Flight flight = flights.remove(player.getUniqueId());
+        if (flight == null) {
+            return;
+        }
+        if (flight.checkpoint != null) {
+            flight.checkpoint.cancel();
+        }
+        addFlightTime(player, System.currentTimeMillis() - flight.start, copies);
+    }
+
+    /**
+     * Add flight time to every armor piece the player can glide with.
+     *
+     * @param player   The player.
+     * @param duration The flight time in ms.
+     * @param copies   Copies of the armor, which are updated too.
+     */
+    private void addFlightTime(Player player, long duration, List<ItemStack> copies) {
+        if (duration <= 0) {
+            return;
+        }
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] armor = inventory.getArmorContents();
+        List<ItemStack> candidates = new ArrayList<>(copies);
+        for (ItemStack armorPiece : armor) {
+            // skip missing slots
+            if (armorPiece == null || !toolStats.itemChecker.canGlide(armorPiece)) {
+                continue;
+            }
+            // find the copy before the armor changes, since they match right now
+            ItemStack copy = null;
+            for (ItemStack candidate : candidates) {
+                if (candidate != null && candidate.isSimilar(armorPiece)) {
+                    copy = candidate;
+                    break;
+                }
+            }
+            toolStats.itemLore.updateStat(armorPiece, StatType.FLIGHT_TIME, duration);
+            if (copy != null) {
+                candidates.remove(copy);
+                toolStats.itemLore.updateStat(copy, StatType.FLIGHT_TIME, duration);
+            }
+        }
+        inventory.setArmorContents(armor);
+    }
+
+    /**
+     * A flight being tracked.
+     *
+     * @param start      When the flight started, or when it was last saved.
+     * @param checkpoint The task that saves long flights.
+     */
+    private record Flight(long start, ScheduledTask checkpoint) {
+    }
+}
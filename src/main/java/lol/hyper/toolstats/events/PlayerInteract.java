@@ -18,40 +18,36 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
-import org.bukkit.Bukkit;
+import lol.hyper.toolstats.tools.ExpiringSet;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.GameMode;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
-import org.bukkit.entity.minecart.StorageMinecart;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.InventoryHolder;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 
 public class PlayerInteract implements Listener {
 
     private final ToolStats toolStats;
 
-    public final List<Block> openedChests = new ArrayList<>();
-    public final List<StorageMinecart> openedMineCarts = new ArrayList<>();
-    public final List<Inventory> chestInventories = new ArrayList<>();
-    public final List<Inventory> mineCartChestInventories = new ArrayList<>();
+    public final ExpiringSet openedChests;
+    public final ExpiringSet openedMineCarts;
 
     public PlayerInteract(ToolStats toolStats) {
         this.toolStats = toolStats;
+        this.openedChests = toolStats.expiringSets.create(20);
+        this.openedMineCarts = toolStats.expiringSets.create(20);
     }
 
     @EventHandler(ignoreCancelled = true)
@@ -66,43 +62,29 @@ public class PlayerInteract implements Listener {
         }
 
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
         // store when a player opens a chest
         BlockState state = block.getState();
-        if (state instanceof InventoryHolder holder) {
-            Inventory holderInventory = holder.getInventory();
+        if (state instanceof InventoryHolder) {
             openedChests.add(block);
-            chestInventories.add(holderInventory);
-            Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, _ -> openedChests.remove(block), 20);
         }
         // player right-clicked a log
         String blockType = block.getType().toString().toLowerCase(Locale.ROOT);
         if (blockType.endsWith("_log") && !blockType.contains("stripped")) {
             PlayerInventory playerInventory = player.getInventory();
-            ItemStack axe = toolStats.itemChecker.getAxe(playerInventory);
+            EquipmentSlot axeSlot = toolStats.itemChecker.getAxeSlot(playerInventory);
 
             // not holding an axe
-            if (axe == null) {
+            if (axeSlot == null) {
                 return;
             }
 
-            ItemMeta newAxe = toolStats.itemLore.updateLogsStripped(axe, 1);
-            if (newAxe != null) {
-                boolean isMain = playerInventory.getItemInMainHand().getType().toString().endsWith("_AXE");
-                boolean isOffHand = playerInventory.getItemInOffHand().getType().toString().endsWith("_AXE");
-                if (isMain && isOffHand) {
-                    playerInventory.getItemInMainHand().setItemMeta(newAxe);
-                } else if (isMain) {
-                    playerInventory.getItemInMainHand().setItemMeta(newAxe);
-                } else if (isOffHand) {
-                    playerInventory.getItemInOffHand().setItemMeta(newAxe);
-                }
-            }
+            toolStats.statBuffer.add(player, axeSlot, playerInventory.getItem(axeSlot), StatType.LOGS_STRIPPED, 1);
         }
     }
 
@@ -110,16 +92,12 @@ public class PlayerInteract implements Listener {
     public void onInteract(PlayerInteractEntityEvent event) {
         Entity clicked = event.getRightClicked();
         Player player = event.getPlayer();
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
         // store when a player opens a minecart
         if (clicked.getType() == EntityType.CHEST_MINECART) {
-            StorageMinecart storageMinecart = (StorageMinecart) clicked;
-            Inventory mineCartInventory = storageMinecart.getInventory();
-            mineCartChestInventories.add(mineCartInventory);
-            openedMineCarts.add(storageMinecart);
-            Bukkit.getGlobalRegionScheduler().runDelayed(toolStats, _ -> openedMineCarts.remove(storageMinecart), 20);
+            openedMineCarts.add(clicked.getUniqueId());
         }
     }
 }
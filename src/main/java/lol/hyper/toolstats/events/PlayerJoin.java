@@ -42,7 +42,7 @@ public class PlayerJoin implements Listener {
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
 
@@ -55,27 +55,18 @@ public class PlayerJoin implements Listener {
             if (!toolStats.itemChecker.isValidItem(itemStack.getType())) {
                 continue;
             }
+            // bring old items up to date, such as giving them tokens for their stats
+            // this is done before reading the meta, so it's not overwritten
+            toolStats.itemUpgrader.upgrade(itemStack);
+
             ItemMeta itemMeta = itemStack.getItemMeta();
             if (itemMeta == null) {
                 continue;
             }
             PersistentDataContainer container = itemMeta.getPersistentDataContainer();
 
-            if (toolStats.config.getBoolean("tokens.enabled")) {
-                // if the token system is on and the item doesn't have stat keys
-                if (toolStats.itemChecker.keyCheck(container) && !container.has(toolStats.toolStatsKeys.getTokenType())) {
-                    // add the tokens
-                    String newTokens = toolStats.itemChecker.addTokensToExisting(itemStack);
-                    if (newTokens == null) {
-                        return;
-                    }
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                    itemStack.setItemMeta(itemMeta);
-                }
-            }
-
             // generate a hash if the item doesn't have one
-            if (toolStats.config.getBoolean("generate-hash-for-items")) {
+            if (toolStats.settings.generateHash) {
                 if (!container.has(toolStats.toolStatsKeys.getHash(), PersistentDataType.STRING)) {
                     UUID owner = null;
                     // get the current owner if there is one.
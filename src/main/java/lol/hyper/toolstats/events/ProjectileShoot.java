@@ -19,12 +19,11 @@ package lol.hyper.toolstats.events;
 
 import com.destroystokyo.paper.event.player.PlayerLaunchProjectileEvent;
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.entity.Trident;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 public class ProjectileShoot implements Listener {
 
@@ -34,25 +33,17 @@ public class ProjectileShoot implements Listener {
         this.toolStats = toolStats;
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onProjectileLaunch(PlayerLaunchProjectileEvent event) {
         if (!(event.getProjectile() instanceof Trident tridentEntity)) {
             return;
         }
 
-        if (!toolStats.configTools.checkWorld(tridentEntity.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(tridentEntity.getWorld())) {
             return;
         }
 
-        tridentEntity.getScheduler().runDelayed(toolStats, scheduledTask -> {
-            ItemStack tridentStack = tridentEntity.getItemStack();
-            ItemMeta newTridentMeta = toolStats.itemLore.updateTridentThrows(tridentStack, 1);
-            if (newTridentMeta == null) {
-                return;
-            }
-
-            tridentStack.setItemMeta(newTridentMeta);
-            tridentEntity.setItemStack(tridentStack);
-        }, null, 1);
+        // added to the item when it's picked up
+        toolStats.tridentStats.add(tridentEntity, StatType.TRIDENT_THROWS, 1);
     }
 }
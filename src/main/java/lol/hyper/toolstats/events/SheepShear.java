@@ -18,8 +18,8 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.GameMode;
-import org.bukkit.Material;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Sheep;
@@ -27,9 +27,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
-import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.ItemMeta;
 
 public class SheepShear implements Listener {
 
@@ -45,10 +44,10 @@ public class SheepShear implements Listener {
             return;
         }
         Player player = event.getPlayer();
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
         Entity entity = event.getRightClicked();
@@ -56,9 +55,10 @@ public class SheepShear implements Listener {
             return;
         }
 
-        ItemStack heldShears = toolStats.itemChecker.getShears(player.getInventory());
+        PlayerInventory inventory = player.getInventory();
+        EquipmentSlot shearsSlot = toolStats.itemChecker.getShearsSlot(inventory);
         // player swapped or we can't get the shears
-        if (heldShears == null) {
+        if (shearsSlot == null) {
             return;
         }
 
@@ -73,18 +73,6 @@ public class SheepShear implements Listener {
         }
 
         // update the stats
-        ItemMeta newShears = toolStats.itemLore.updateSheepSheared(heldShears, 1);
-        if (newShears != null) {
-            PlayerInventory inventory = player.getInventory();
-            boolean isMain = inventory.getItemInMainHand().getType() == Material.SHEARS;
-            boolean isOffHand = inventory.getItemInOffHand().getType() == Material.SHEARS;
-            if (isMain && isOffHand) {
-                inventory.getItemInMainHand().setItemMeta(newShears);
-            } else if (isMain) {
-                inventory.getItemInMainHand().setItemMeta(newShears);
-            } else if (isOffHand) {
-                inventory.getItemInOffHand().setItemMeta(newShears);
-            }
-        }
+        toolStats.statBuffer.add(player, shearsSlot, inventory.getItem(shearsSlot), StatType.SHEEP_SHEARED, 1);
     }
 }
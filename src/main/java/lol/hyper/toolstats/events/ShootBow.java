@@ -18,17 +18,16 @@
 package lol.hyper.toolstats.events;
 
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.StatType;
 import org.bukkit.GameMode;
-import org.bukkit.Material;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityShootBowEvent;
-import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.ItemMeta;
 
 public class ShootBow implements Listener {
 
@@ -46,31 +45,20 @@ public class ShootBow implements Listener {
             return;
         }
 
-        if (!toolStats.configTools.checkWorld(player.getWorld().getName())) {
+        if (!toolStats.configTools.checkWorld(player.getWorld())) {
             return;
         }
-        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.config.getBoolean("allow-creative")) {
+        if (player.getGameMode() == GameMode.CREATIVE && !toolStats.settings.allowCreative) {
             return;
         }
 
-        ItemStack heldBow = toolStats.itemChecker.getBow(player.getInventory());
+        PlayerInventory inventory = player.getInventory();
+        EquipmentSlot bowSlot = toolStats.itemChecker.getBowSlot(inventory);
         // player swapped or we can't get the bow
-        if (heldBow == null) {
+        if (bowSlot == null) {
             return;
         }
 
-        ItemMeta newBow = toolStats.itemLore.updateArrowsShot(heldBow, 1);
-        if (newBow != null) {
-            PlayerInventory inventory = player.getInventory();
-            boolean isMain = inventory.getItemInMainHand().getType() == Material.BOW || inventory.getItemInMainHand().getType() == Material.CROSSBOW;
-            boolean isOffHand = inventory.getItemInOffHand().getType() == Material.BOW || inventory.getItemInOffHand().getType() == Material.CROSSBOW;
-            if (isMain && isOffHand) {
-                inventory.getItemInMainHand().setItemMeta(newBow);
-            } else if (isMain) {
-                inventory.getItemInMainHand().setItemMeta(newBow);
-            } else if (isOffHand) {
-                inventory.getItemInOffHand().setItemMeta(newBow);
-            }
-        }
+        toolStats.statBuffer.add(player, bowSlot, inventory.getItem(bowSlot), StatType.ARROWS_SHOT, 1);
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.events;
+
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+/**
+ * Writes a player's saved up stats before their held or worn items can move or be seen.
+ * These run first, so other listeners see the written stats.
+ */
+public class StatBufferFlush implements Listener {
+
+    private final ToolStats toolStats;
+
+    public StatBufferFlush(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onHeld(PlayerItemHeldEvent event) {
+        toolStats.statBuffer.flush(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onSwap(PlayerSwapHandItemsEvent event) {
+        toolStats.statBuffer.flush(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onDrop(PlayerDropItemEvent event) {
+        // the item has already left the inventory, so write the stats to the dropped copy
+        Item droppedItem = event.getItemDrop();
+        ItemStack item = droppedItem.getItemStack();
+        if (!toolStats.statBuffer.flush(event.getPlayer(), List.of(item)).isEmpty()) {
+            droppedItem.setItemStack(item);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onArmorChange(PlayerArmorChangeEvent event) {
+        // this fires after the armor changed, however it was changed
+        toolStats.statBuffer.armorChanged(event.getPlayer(), event.getSlot(), event.getNewItem());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onOpen(InventoryOpenEvent event) {
+        if (event.getPlayer() instanceof Player player) {
+            toolStats.statBuffer.flush(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player player) {
+            toolStats.statBuffer.flush(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onDeath(PlayerDeathEvent event) {
+        // the drops are copies made before this event, so they need the stats too
+        toolStats.statBuffer.flush(event.getPlayer(), event.getDrops());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onQuit(PlayerQuitEvent event) {
+        toolStats.statBuffer.flush(event.getPlayer());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.events;
+
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Trident;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDropItemEvent;
+import org.bukkit.event.player.PlayerPickupArrowEvent;
+import org.bukkit.inventory.ItemStack;
+
+public class TridentPickup implements Listener {
+
+    private final ToolStats toolStats;
+
+    public TridentPickup(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onPickup(PlayerPickupArrowEvent event) {
+        // this also fires when a loyalty trident returns
+        if (!(event.getArrow() instanceof Trident trident)) {
+            return;
+        }
+        // the player is given the item's stack after this event
+        Item item = event.getItem();
+        ItemStack tridentStack = item.getItemStack();
+        if (toolStats.tridentStats.merge(trident, tridentStack)) {
+            item.setItemStack(tridentStack);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onDrop(EntityDropItemEvent event) {
+        // a loyalty trident drops as an item when it can't return to its owner
+        if (!(event.getEntity() instanceof Trident trident)) {
+            return;
+        }
+        Item item = event.getItemDrop();
+        ItemStack tridentStack = item.getItemStack();
+        if (toolStats.tridentStats.merge(trident, tridentStack)) {
+            item.setItemStack(tridentStack);
+        }
+    }
+}
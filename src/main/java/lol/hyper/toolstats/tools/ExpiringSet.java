@@ -0,0 +1,305 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A set of entity UUIDs or block positions that are forgotten a fixed number of ticks after they are added.
+ * Keys are stored as pairs of longs in an open addressed table, and expiry uses a timing wheel
+ * with one slot per tick, so adding, checking and expiring never allocate or schedule tasks.
+ * Sets are advanced once per tick by {@link ExpiringSets}.
+ */
+public class ExpiringSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final int ttl;
+    private final int wheelMask;
+    // keys added in each tick, as high and low pairs
+    private final long[][] wheel;
+    private final int[] wheelSizes;
+    private long tick;
+
+    // the table, an expiry of 0 means the slot is empty
+    private long[] highs;
+    private long[] lows;
+    private long[] expiries;
+    private int size;
+
+    /**
+     * Create a new set.
+     *
+     * @param ttl How many ticks entries are kept for.
+     */
+    public ExpiringSet(int ttl) {
+        if (ttl < 1) {
+            throw new IllegalArgumentException("ttl must be at least 1, got " + ttl);
+        }
+        this.ttl = ttl;
+        // one more slot than the ttl so adding never lands in the slot being expired
+        int wheelSize = Integer.highestOneBit(ttl) << 1;
+        this.wheelMask = wheelSize - 1;
+        this.wheel = new long[wheelSize][];
+        this.wheelSizes = new int[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new long[8];
+        }
+        this.highs = new long[MIN_CAPACITY];
+        this.lows = new long[MIN_CAPACITY];
+        this.expiries = new long[MIN_CAPACITY];
+    }
+
+    /**
+     * Add a key, or restart its time if it's already here.
+     *
+     * @param high The high half of the key.
+     * @param low  The low half of the key.
+     */
+    public synchronized void add(long high, long low) {
+        long expiry = tick + ttl;
+        int index = find(high, low);
+        if (index < 0) {
+            if ((size + 1) * 2 > highs.length) {
+                resize(highs.length * 2);
+            }
+            index = ~find(high, low);
+            highs[index] = high;
+            lows[index] = low;
+            size++;
+        }
+        expiries[index] = expiry;
+
+        int slot = (int) (expiry & wheelMask);
+        long[] keys = wheel[slot];
+        int used = wheelSizes[slot];
+        if (used + 2 > keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            wheel[slot] = keys;
+        }
+        keys[used] = high;
+        keys[used + 1] = low;
+        wheelSizes[slot] = used + 2;
+    }
+
+    /**
+     * Check if a key is here.
+     *
+     * @param high The high half of the key.
+     * @param low  The low half of the key.
+     * @return True if the key was added and has not expired.
+     */
+    public synchronized boolean contains(long high, long low) {
+        return find(high, low) >= 0;
+    }
+
+    /**
+     * Remove a key before it expires.
+     *
+     * @param high The high half of the key.
+     * @param low  The low half of the key.
+     * @return True if the key was here.
+     */
+    public synchronized boolean remove(long high, long low) {
+        int index = find(high, low);
+        if (index < 0) {
+            return false;
+        }
+        // the wheel still has it, it's skipped when that slot expires
+        removeAt(index);
+        return true;
+    }
+
+    public void add(UUID uuid) {
+        add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean contains(UUID uuid) {
+        return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean remove(UUID uuid) {
+        return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public void add(Block block) {
+        add(worldKey(block.getWorld()), packPosition(block.getX(), block.getY(), block.getZ()));
+    }
+
+    public boolean contains(Block block) {
+        return contains(worldKey(block.getWorld()), packPosition(block.getX(), block.getY(), block.getZ()));
+    }
+
+    public boolean remove(Block block) {
+        return remove(worldKey(block.getWorld()), packPosition(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Add the block a location is in.
+     *
+     * @param location The location.
+     */
+    public void add(Location location) {
+        add(worldKey(location.getWorld()), packPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    /**
+     * Check if the block a location is in is here.
+     *
+     * @param location The location.
+     * @return True if the block was added and has not expired.
+     */
+    public boolean contains(Location location) {
+        return contains(worldKey(location.getWorld()), packPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    /**
+     * Remove the block a location is in.
+     *
+     * @param location The location.
+     * @return True if the block was here.
+     */
+    public boolean remove(Location location) {
+        return remove(worldKey(location.getWorld()), packPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    /**
+     * Move forward one tick, and remove everything that expires on it.
+     */
+    public synchronized void advance() {
+        tick++;
+        int slot = (int) (tick & wheelMask);
+        long[] keys = wheel[slot];
+        int used = wheelSizes[slot];
+        for (int i = 0; i < used; i += 2) {
+            int index = find(keys[i], keys[i + 1]);
+            // skip keys that were removed, or added again since
+            if (index >= 0 && expiries[index] == tick) {
+                removeAt(index);
+            }
+        }
+        wheelSizes[slot] = 0;
+        // let go of big slots after a burst
+        if (keys.length > 64 && used < keys.length / 4) {
+            wheel[slot] = new long[keys.length / 2];
+        }
+        if (highs.length > MIN_CAPACITY && size * 8 < highs.length) {
+            resize(highs.length / 2);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Pack a block position into a long, the same layout Minecraft uses.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The packed position.
+     */
+    public static long packPosition(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * The half of a block key that says which world it is in.
+     * World UUIDs are random, so folding one into a long won't collide in practice.
+     *
+     * @param world The world.
+     * @return The world's key.
+     */
+    public static long worldKey(World world) {
+        UUID uuid = world.getUID();
+        return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+    }
+
+    /**
+     * Find a key in the table.
+     *
+     * @return The index of the key, or the inverted index of the empty slot it would go in.
+     */
+    private int find(long high, long low) {
+        int mask = highs.length - 1;
+        int index = hash(high, low) & mask;
+        while (expiries[index] != 0) {
+            if (highs[index] == high && lows[index] == low) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return ~index;
+    }
+
+    /**
+     * Empty a slot in the table, shifting back any keys that probed past it.
+     */
+    private void removeAt(int index) {
+        int mask = highs.length - 1;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (expiries[next] == 0) {
+                break;
+            }
+            int home = hash(highs[next], lows[next]) & mask;
+            // move the key back if its home slot is not between the gap and where it is
+            boolean between = index <= next ? (index < home && home <= next) : (index < home || home <= next);
+            if (!between) {
+                highs[index] = highs[next];
+                lows[index] = lows[next];
+                expiries[index] = expiries[next];
+                index = next;
+            }
+        }
+        expiries[index] = 0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        long[] oldExpiries = expiries;
+        highs = new long[capacity];
+        lows = new long[capacity];
+        expiries = new long[capacity];
+        for (int i = 0; i < oldHighs.length; i++) {
+            if (oldExpiries[i] != 0) {
+                int index = ~find(oldHighs[i], oldLows[i]);
+                highs[index] = oldHighs[i];
+                lows[index] = oldLows[i];
+                expiries[index] = oldExpiries[i];
+            }
+        }
+    }
+
+    private static int hash(long high, long low) {
+        long hash = high * 0x9E3779B97F4A7C15L + low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+}
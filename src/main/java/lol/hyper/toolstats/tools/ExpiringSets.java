@@ -0,0 +1,60 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.Bukkit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Advances every {@link ExpiringSet} with a single task on the global region.
+ */
+public class ExpiringSets {
+
+    private final ToolStats toolStats;
+    private final List<ExpiringSet> sets = new CopyOnWriteArrayList<>();
+
+    public ExpiringSets(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Create a set that is advanced every tick.
+     *
+     * @param ttl How many ticks entries are kept for.
+     * @return The set.
+     */
+    public ExpiringSet create(int ttl) {
+        ExpiringSet set = new ExpiringSet(ttl);
+        sets.add(set);
+        return set;
+    }
+
+    /**
+     * Start advancing the sets.
+     */
+    public void start() {
+        Bukkit.getGlobalRegionScheduler().runAtFixedRate(toolStats, _ -> {
+            for (ExpiringSet set : sets) {
+                set.advance();
+            }
+        }, 1, 1);
+    }
+}
@@ -18,17 +18,18 @@
 package lol.hyper.toolstats.tools;
 
 import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import lol.hyper.toolstats.ToolStats;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 public class ItemChecker {
 
@@ -135,77 +136,66 @@ public class ItemChecker {
     }
 
     /**
-     * Check a given item for a target token.
+     * Check a given item for a stat's token.
      *
-     * @param container   The PDC of the item.
-     * @param targetToken The target to look for.
-     * @return True if the item has a given token, false if not.
+     * @param container The PDC of the item.
+     * @param stat      The stat the token is for.
+     * @return True if the item has the token, false if not.
      */
-    public boolean checkTokens(PersistentDataContainer container, String targetToken) {
-        // make sure the item has tokens
-        if (!container.has(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING)) {
-            return false;
-        }
-
-        // get the tokens for this item
-        String tokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-        if (tokens == null) {
-            return false;
-        }
-
-        return tokens.contains(targetToken);
+    public boolean checkTokens(PersistentDataContainerView container, StatType stat) {
+        return (getTokens(container) & stat.getMask()) != 0;
     }
 
     /**
-     * Get the tokens for a given item.
+     * Get the tokens applied to an item.
+     * Items with the old comma separated tokens are read too.
      *
-     * @param item The item.
-     * @return An array of the tokens, empty if there are none.
+     * @param container The PDC of the item.
+     * @return The tokens as a mask, 0 if there are none.
      */
-    private String[] getTokens(ItemStack item) {
-        // make sure the item has tokens
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
-            return new String[0];
-        }
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        if (!container.has(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING)) {
-            return new String[0];
+    public long getTokens(PersistentDataContainerView container) {
+        Long tokens = container.get(toolStats.toolStatsKeys.getTokens(), PersistentDataType.LONG);
+        if (tokens != null) {
+            return tokens;
+        }
+        String legacyTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
+        if (legacyTokens == null) {
+            return 0;
+        }
+        long mask = 0;
+        for (String token : legacyTokens.split(",")) {
+            StatType stat = StatType.fromName(token);
+            if (stat != null) {
+                mask |= stat.getMask();
+            }
         }
+        return mask;
+    }
 
-        // get the tokens for this item
-        String tokensRaw = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-        if (tokensRaw == null) {
-            return new String[0];
+    /**
+     * Set the tokens applied to an item. This also upgrades items with the old tokens.
+     *
+     * @param container The PDC of the item.
+     * @param tokens    The tokens as a mask. If 0, the tokens are removed.
+     */
+    public void setTokens(PersistentDataContainer container, long tokens) {
+        container.remove(toolStats.toolStatsKeys.getTokenApplied());
+        if (tokens == 0) {
+            container.remove(toolStats.toolStatsKeys.getTokens());
+        } else {
+            container.set(toolStats.toolStatsKeys.getTokens(), PersistentDataType.LONG, tokens);
         }
-
-        return tokensRaw.split(",");
     }
 
     /**
      * Add a token to an item.
      *
-     * @param item  The item.
-     * @param token The token to add.
-     * @return The new PDC with the new token. Null if something went wrong.
+     * @param item The item, which is edited in place.
+     * @param stat The stat the token is for.
+     * @return The item with the new token.
      */
-    public ItemStack addToken(ItemStack item, String token) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
-            return null;
-        }
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        String[] tokens = getTokens(item);
-        // there are no tokens
-        if (tokens.length == 0) {
-            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, token);
-        } else {
-            // other tokens exist, so add
-            String[] newTokens = Arrays.copyOf(tokens, tokens.length + 1);
-            newTokens[tokens.length] = token;
-            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-        }
-        item.setItemMeta(meta);
+    public ItemStack addToken(ItemStack item, StatType stat) {
+        item.editPersistentDataContainer(container -> setTokens(container, getTokens(container) | stat.getMask()));
         return item;
     }
 
@@ -216,221 +206,79 @@ public class ItemChecker {
      * @return The amount of levels to use.
      */
     public int getCost(String tokenType) {
-        return toolStats.config.getInt("tokens.data." + tokenType + ".levels");
+        return toolStats.settings.config.getInt("tokens.data." + tokenType + ".levels");
     }
 
     /**
-     * Get the player's bow/crossbow.
+     * Get the hand the player is holding a bow/crossbow in.
      *
      * @param inventory Their inventory.
-     * @return Their bow/crossbow, either main or offhand.
+     * @return The hand, null if they are not holding one.
      */
-    public @Nullable ItemStack getBow(PlayerInventory inventory) {
-        ItemStack main = inventory.getItemInMainHand();
-        ItemStack offHand = inventory.getItemInOffHand();
-
-        boolean isMain = main.getType() == Material.BOW || main.getType() == Material.CROSSBOW;
-        boolean isOffHand = offHand.getType() == Material.BOW || offHand.getType() == Material.CROSSBOW;
-
-        // if the player is holding a bow in their main hand, use that one
-        // if the bow is in their offhand instead, use that one after checking main hand
-        // Minecraft prioritizes main hand if the player holds in both hands
-        if (isMain && isOffHand) {
-            return main;
-        }
-        if (isMain) {
-            return main;
-        }
-        if (isOffHand) {
-            return offHand;
-        }
-
-        return null;
+    public @Nullable EquipmentSlot getBowSlot(PlayerInventory inventory) {
+        return getHeldSlot(inventory, type -> type == Material.BOW || type == Material.CROSSBOW);
     }
 
     /**
-     * Get the player's shears.
+     * Get the hand the player is holding shears in.
      *
      * @param inventory Their inventory.
-     * @return Their shears, either main or offhand.
+     * @return The hand, null if they are not holding any.
      */
-    public @Nullable ItemStack getShears(PlayerInventory inventory) {
-        ItemStack main = inventory.getItemInMainHand();
-        ItemStack offHand = inventory.getItemInOffHand();
-
-        boolean isMain = main.getType() == Material.SHEARS;
-        boolean isOffHand = offHand.getType() == Material.SHEARS;
-
-        // if the player is holding shears in their main hand, use that one
-        // if the shears are in their offhand instead, use that one after checking main hand
-        // Minecraft prioritizes main hand if the player holds in both hands
-        if (isMain && isOffHand) {
-            return main;
-        }
-        if (isMain) {
-            return main;
-        }
-        if (isOffHand) {
-            return offHand;
-        }
-
-        return null;
+    public @Nullable EquipmentSlot getShearsSlot(PlayerInventory inventory) {
+        return getHeldSlot(inventory, type -> type == Material.SHEARS);
     }
 
     /**
-     * Get the player's fishing rod.
+     * Get the hand the player is holding a fishing rod in.
      *
      * @param inventory Their inventory.
-     * @return Their fishing rod, either main or offhand.
+     * @return The hand, null if they are not holding one.
      */
-    public @Nullable ItemStack getFishingRod(PlayerInventory inventory) {
-        ItemStack main = inventory.getItemInMainHand();
-        ItemStack offHand = inventory.getItemInOffHand();
-
-        boolean isMain = main.getType() == Material.FISHING_ROD;
-        boolean isOffHand = offHand.getType() == Material.FISHING_ROD;
-
-        // if the player is holding a fishing rod in their main hand, use that one
-        // if the fishing rod is in their offhand instead, use that one after checking main hand
-        // Minecraft prioritizes main hand if the player holds in both hands
-        if (isMain && isOffHand) {
-            return main;
-        }
-        if (isMain) {
-            return main;
-        }
-        if (isOffHand) {
-            return offHand;
-        }
-
-        return null;
+    public @Nullable EquipmentSlot getFishingRodSlot(PlayerInventory inventory) {
+        return getHeldSlot(inventory, type -> type == Material.FISHING_ROD);
     }
 
     /**
-     * Get the player's axe.
+     * Get the hand the player is holding an axe in.
      *
      * @param inventory Their inventory.
-     * @return Their axe, either main or offhand.
+     * @return The hand, null if they are not holding one.
      */
-    public @Nullable ItemStack getAxe(PlayerInventory inventory) {
-        ItemStack main = inventory.getItemInMainHand();
-        ItemStack offHand = inventory.getItemInOffHand();
-
-        boolean isMain = main.getType().toString().endsWith("_AXE");
-        boolean isOffHand = offHand.getType().toString().endsWith("_AXE");
-
-        // if the player is holding an axe in their main hand, use that one
-        // if the axe is in their offhand instead, use that one after checking main hand
-        // Minecraft prioritizes main hand if the player holds in both hands
-        if (isMain && isOffHand) {
-            return main;
-        }
-        if (isMain) {
-            return main;
-        }
-        if (isOffHand) {
-            return offHand;
-        }
-
-        return null;
+    public @Nullable EquipmentSlot getAxeSlot(PlayerInventory inventory) {
+        return getHeldSlot(inventory, type -> type.toString().endsWith("_AXE"));
     }
 
     /**
-     * Checks the keys of the item and returns the tokens we should add.
-     * If the server swaps token systems this should allow compatability.
+     * Find the hand holding a type of item.
      *
-     * @param item The input item.
-     * @return The tokens we should add.
+     * @param inventory Their inventory.
+     * @param matches   If an item type is the one we want.
+     * @return The hand, null if neither hand matches.
      */
-    public String addTokensToExisting(ItemStack item) {
-        ItemStack clone = item.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            return null;
-        }
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        ArrayList<String> tokens = new ArrayList<>();
-        if (container.has(toolStats.toolStatsKeys.getPlayerKills())) {
-            tokens.add("player-kills");
-        }
-        if (container.has(toolStats.toolStatsKeys.getMobKills())) {
-            tokens.add("mob-kills");
-        }
-        if (container.has(toolStats.toolStatsKeys.getBlocksMined())) {
-            tokens.add("blocks-mined");
-        }
-        if (container.has(toolStats.toolStatsKeys.getCropsHarvested())) {
-            tokens.add("crops-mined");
-        }
-        if (container.has(toolStats.toolStatsKeys.getFishCaught())) {
-            tokens.add("fish-caught");
-        }
-        if (container.has(toolStats.toolStatsKeys.getSheepSheared())) {
-            tokens.add("sheep-sheared");
-        }
-        if (container.has(toolStats.toolStatsKeys.getArmorDamage())) {
-            tokens.add("damage-taken");
-        }
-        if (container.has(toolStats.toolStatsKeys.getArrowsShot())) {
-            tokens.add("arrows-shot");
-        }
-        if (container.has(toolStats.toolStatsKeys.getFlightTime())) {
-            tokens.add("flight-time");
-        }
-        if (container.has(toolStats.toolStatsKeys.getDamageDone())) {
-            tokens.add("damage-done");
-        }
-        if (container.has(toolStats.toolStatsKeys.getWitherKills())) {
-            tokens.add("wither-kills");
-        }
-        if (container.has(toolStats.toolStatsKeys.getEnderDragonKills())) {
-            tokens.add("enderdragon-kills");
-        }
-        if (container.has(toolStats.toolStatsKeys.getCriticalStrikes())) {
-            tokens.add("critical-strikes");
-        }
-        if (container.has(toolStats.toolStatsKeys.getTridentThrows())) {
-            tokens.add("trident-throws");
-        }
-        if (container.has(toolStats.toolStatsKeys.getLogsStripped())) {
-            tokens.add("logs-stripped");
+    private @Nullable EquipmentSlot getHeldSlot(PlayerInventory inventory, Predicate<Material> matches) {
+        // Minecraft prioritizes main hand if the player holds in both hands
+        if (matches.test(inventory.getItemInMainHand().getType())) {
+            return EquipmentSlot.HAND;
         }
-        if (tokens.isEmpty()) {
-            return null;
+        if (matches.test(inventory.getItemInOffHand().getType())) {
+            return EquipmentSlot.OFF_HAND;
         }
-
-        return String.join(",", tokens);
+        return null;
     }
 
-
     /**
-     * Remove a given token from a list of tokens.
+     * Checks the keys of the item and returns the tokens we should add.
+     * If the server swaps token systems this should allow compatability.
      *
-     * @param appliedTokens The tokens on the item.
-     * @param toRemove      The token to remove.
-     * @return The list of tokens.
+     * @param container The item's container.
+     * @return The tokens we should add as a mask, 0 if there are none.
      */
-    public List<String> removeToken(String appliedTokens, String toRemove) {
-        // remove the tokens if they exist
-        List<String> tokenList = new ArrayList<>(Arrays.asList(appliedTokens.split(",")));
-        tokenList.remove(toRemove);
-
-        if (tokenList.isEmpty()) {
-            return Collections.emptyList();
-        } else {
-            return tokenList;
+    public long addTokensToExisting(PersistentDataContainerView container) {
+        long tokens = 0;
+        for (StatType stat : toolStats.statStorage.readAll(container).keySet()) {
+            tokens |= stat.getMask();
         }
-    }
-
-    /**
-     * Check to see if a given container has our keys for stats.
-     *
-     * @param container The container.
-     * @return True/false if the container has keys.
-     */
-    public boolean keyCheck(PersistentDataContainer container) {
-        return container.getKeys().stream()
-                .map(NamespacedKey::getKey)
-                .anyMatch(key -> toolStats.toolStatsKeys.getTokenKeys().stream().anyMatch(tokenKey -> tokenKey.getKey().equalsIgnoreCase(key)));
+        return tokens;
     }
 }
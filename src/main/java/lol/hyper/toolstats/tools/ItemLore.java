@@ -17,14 +17,16 @@
 
 package lol.hyper.toolstats.tools;
 
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import lol.hyper.hyperlib.datatypes.UUIDDataType;
 import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.config.ItemToggle;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
@@ -39,36 +41,59 @@ public class ItemLore {
     }
 
     /**
-     * Updates existing lore on an item.
+     * Get an item's lore, straight from its lore component.
      *
-     * @param itemMeta The item's meta.
-     * @param oldLine  The old line to replace.
-     * @param newLine  The new line to replace oldLine.
-     * @return The item's new lore.
+     * @param item The item.
+     * @return A copy of the lore that can be edited, empty if there is none.
      */
-    public List<Component> updateItemLore(ItemMeta itemMeta, Component oldLine, Component newLine) {
-        List<Component> itemLore;
-        if (itemMeta.hasLore()) {
-            itemLore = itemMeta.lore();
-            // keep track of line index
-            // this doesn't mess the lore of existing items
-            for (int x = 0; x < itemLore.size(); x++) {
-                String line = PlainTextComponentSerializer.plainText().serialize(itemLore.get(x));
-                // find the old line to update, keeping index
-                // this means we update this line only!
-                if (line.equals(PlainTextComponentSerializer.plainText().serialize(oldLine))) {
-                    itemLore.set(x, newLine);
-                    return itemLore;
-                }
-            }
-            // if the item has lore, but we didn't find the line
-            itemLore.add(newLine);
+    public List<Component> getLore(ItemStack item) {
+        io.papermc.paper.datacomponent.item.ItemLore lore = item.getData(DataComponentTypes.LORE);
+        if (lore == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(lore.lines());
+    }
+
+    /**
+     * Set an item's lore component, without going through the item's meta.
+     *
+     * @param item The item.
+     * @param lore The new lore. If empty, the lore is removed.
+     */
+    public void setLore(ItemStack item, List<Component> lore) {
+        if (lore.isEmpty()) {
+            item.resetData(DataComponentTypes.LORE);
+            return;
+        }
+        item.setData(DataComponentTypes.LORE, io.papermc.paper.datacomponent.item.ItemLore.lore(lore));
+    }
+
+    /**
+     * Updates a stat's line in an item's lore.
+     * The line is found by its index if we know it, otherwise by searching for the old line.
+     * If it's not found at all, the line is added to the end.
+     *
+     * @param lore      The item's lore, which is updated.
+     * @param container The item's container, to keep the lore index in.
+     * @param stat      The stat the line is for.
+     * @param oldLine   The old line to replace.
+     * @param newLine   The new line to replace oldLine.
+     */
+    public void updateItemLore(List<Component> lore, PersistentDataContainer container, StatType stat, Component oldLine, Component newLine) {
+        NamespacedKey indexKey = toolStats.toolStatsKeys.getLoreIndex();
+        LoreIndex index = LoreIndex.read(container, indexKey, lore.size());
+
+        int line = findStatLine(lore, index, stat, oldLine);
+        if (line == -1) {
+            lore.add(newLine);
+            index.lineAdded();
+            line = lore.size() - 1;
         } else {
-            // if the item has no lore, create a new list and add the line
-            itemLore = new ArrayList<>();
-            itemLore.add(newLine);
+            // keep the index, so we update this line only
+            lore.set(line, newLine);
         }
-        return itemLore;
+        index.set(stat, line);
+        index.write(container, indexKey);
     }
 
     /**
@@ -83,1432 +108,408 @@ public class ItemLore {
             return Collections.emptyList();
         }
         List<Component> newLore = new ArrayList<>(inputLore);
-        newLore.removeIf(line -> PlainTextComponentSerializer.plainText().serialize(line).equals(PlainTextComponentSerializer.plainText().serialize(toRemove)));
+        removeLine(newLore, toRemove);
         return newLore;
     }
 
     /**
-     * Add x to the crops mined stat.
+     * Remove every copy of a line from lore.
      *
-     * @param playerTool The tool to update.
+     * @param lore     The lore, which is updated.
+     * @param toRemove The line to remove.
      */
-    public ItemMeta updateCropsMined(ItemStack playerTool, int add) {
-        ItemStack clone = playerTool.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-        // read the current stats from the item
-        // if they don't exist, then start from 0
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.crops-harvested")) {
-            if (container.has(toolStats.toolStatsKeys.getCropsHarvested())) {
-                Integer cropsMined = container.get(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER);
-                if (cropsMined == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getCropsHarvested());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "crops-mined");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldCropsMinedFormatted = toolStats.numberFormat.formatInt(cropsMined);
-                    Component lineToRemove = toolStats.configTools.formatLore("crops-harvested", "{crops}", oldCropsMinedFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "crops-mined");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getCropsHarvested()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer cropsMined = 0;
-        if (container.has(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER)) {
-            cropsMined = container.get(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER);
+    private void removeLine(List<Component> lore, Component toRemove) {
+        if (toRemove == null) {
+            return;
         }
-
-        if (cropsMined == null) {
-            cropsMined = 0;
-            toolStats.logger.warn("{} does not have valid crops-mined set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getCropsHarvested(), PersistentDataType.INTEGER, cropsMined + add);
-        String oldCropsMinedFormatted = toolStats.numberFormat.formatInt(cropsMined);
-        String newCropsMinedFormatted = toolStats.numberFormat.formatInt(cropsMined + add);
-        Component oldLine = toolStats.configTools.formatLore("crops-harvested", "{crops}", oldCropsMinedFormatted);
-        Component newLine = toolStats.configTools.formatLore("crops-harvested", "{crops}", newCropsMinedFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+        String plainToRemove = PlainTextComponentSerializer.plainText().serialize(toRemove);
+        lore.removeIf(line -> PlainTextComponentSerializer.plainText().serialize(line).equals(plainToRemove));
     }
 
     /**
-     * Add x to the blocks mined stat.
+     * Find a stat's line in the lore.
+     * The index is only trusted if the line there is the one we expect.
      *
-     * @param playerTool The tool to update.
+     * @param lore    The item's lore.
+     * @param index   The item's lore index.
+     * @param stat    The stat.
+     * @param oldLine What the line should currently say.
+     * @return The line's index, -1 if it can't be found.
      */
-    public ItemMeta updateBlocksMined(ItemStack playerTool, int add) {
-        ItemStack clone = playerTool.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.configTools.checkConfig(clone.getType(), "blocks-mined")) {
-            if (container.has(toolStats.toolStatsKeys.getBlocksMined())) {
-                Integer blocksMined = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-                if (blocksMined == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getBlocksMined());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "blocks-mined");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldBlocksMinedFormatted = toolStats.numberFormat.formatInt(blocksMined);
-                    Component lineToRemove = toolStats.configTools.formatLore("blocks-mined", "{blocks}", oldBlocksMinedFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
+    private int findStatLine(List<Component> lore, LoreIndex index, StatType stat, Component oldLine) {
+        int line = index.get(stat);
+        // the same template renders the same component, so this is almost always true
+        if (line != -1 && lore.get(line).equals(oldLine)) {
+            return line;
         }
 
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "blocks-mined");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getBlocksMined()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
+        // the index is unknown or doesn't match, search for the line
+        String plainOldLine = PlainTextComponentSerializer.plainText().serialize(oldLine);
+        for (int x = 0; x < lore.size(); x++) {
+            if (PlainTextComponentSerializer.plainText().serialize(lore.get(x)).equals(plainOldLine)) {
+                return x;
             }
         }
-
-        // read the current stats from the item
-        // if they don't exist, then start from 0
-        Integer blocksMined = 0;
-        if (container.has(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER)) {
-            blocksMined = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-        }
-
-        if (blocksMined == null) {
-            blocksMined = 0;
-            toolStats.logger.warn("{} does not have valid generic-mined set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER, blocksMined + add);
-        String oldBlocksMinedFormatted = toolStats.numberFormat.formatInt(blocksMined);
-        String newBlocksMinedFormatted = toolStats.numberFormat.formatInt(blocksMined + add);
-        Component oldLine = toolStats.configTools.formatLore("blocks-mined", "{blocks}", oldBlocksMinedFormatted);
-        Component newLine = toolStats.configTools.formatLore("blocks-mined", "{blocks}", newBlocksMinedFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+        return -1;
     }
 
     /**
-     * Add +1 to the player kills stat.
+     * Add to a stat on an item. Works for every stat, see {@link StatType}.
+     * The item is edited in place, only its container and lore are touched.
      *
-     * @param playerWeapon The tool to update.
+     * @param item The item to update.
+     * @param stat The stat to update.
+     * @param add  How much to add, negative to remove.
+     * @return True if the item was changed.
      */
-    public ItemMeta updatePlayerKills(ItemStack playerWeapon, int add) {
-        ItemStack clone = playerWeapon.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.configTools.checkConfig(clone.getType(), "player-kills")) {
-            if (container.has(toolStats.toolStatsKeys.getPlayerKills())) {
-                Integer playerKills = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-                if (playerKills == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getPlayerKills());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "player-kills");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldPlayerKillsFormatted = toolStats.numberFormat.formatInt(playerKills);
-                    Component lineToRemove = toolStats.configTools.formatLore("player-kills", "{kills}", oldPlayerKillsFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "player-kills");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getPlayerKills()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer playerKills = 0;
-        if (container.has(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER)) {
-            playerKills = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-        }
-
-        if (playerKills == null) {
-            playerKills = 0;
-            toolStats.logger.warn("{} does not have valid player-kills set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER, playerKills + add);
-        String oldPlayerKillsFormatted = toolStats.numberFormat.formatInt(playerKills);
-        String newPlayerKillsFormatted = toolStats.numberFormat.formatInt(playerKills + add);
-        Component oldLine = toolStats.configTools.formatLore("kills.player", "{kills}", oldPlayerKillsFormatted);
-        Component newLine = toolStats.configTools.formatLore("kills.player", "{kills}", newPlayerKillsFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    public boolean updateStat(ItemStack item, StatType stat, Number add) {
+        return updateStats(item, Map.of(stat, add));
     }
 
     /**
-     * Add x to the mob kills stat.
+     * Add to several stats on an item at once, such as damage and kills from one hit.
+     * The item's container and lore are read and written once, no matter how many stats change.
+     * With lazy lore on, only the stats are written, and the lore is left for {@link #renderLore(ItemStack)}.
      *
-     * @param playerWeapon The tool to update.
+     * @param item    The item to update.
+     * @param changes How much to add to each stat, negative to remove.
+     * @return True if the item was changed.
      */
-    public ItemMeta updateMobKills(ItemStack playerWeapon, int add) {
-        ItemStack clone = playerWeapon.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.configTools.checkConfig(clone.getType(), "mob-kills")) {
-            if (container.has(toolStats.toolStatsKeys.getMobKills())) {
-                Integer mobKills = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-                if (mobKills == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getMobKills());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "mob-kills");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldMobKillsFormatted = toolStats.numberFormat.formatInt(mobKills);
-                    Component lineToRemove = toolStats.configTools.formatLore("mob-kills", "{kills}", oldMobKillsFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "mob-kills");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getMobKills()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer mobKills = 0;
-        if (container.has(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER)) {
-            mobKills = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-        }
-
-        if (mobKills == null) {
-            mobKills = 0;
-            toolStats.logger.warn("{} does not have valid mob-kills set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER, mobKills + add);
-        String oldMobKillsFormatted = toolStats.numberFormat.formatInt(mobKills);
-        String newMobKillsFormatted = toolStats.numberFormat.formatInt(mobKills + add);
-        Component oldLine = toolStats.configTools.formatLore("kills.mob", "{kills}", oldMobKillsFormatted);
-        Component newLine = toolStats.configTools.formatLore("kills.mob", "{kills}", newMobKillsFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    public boolean updateStats(ItemStack item, Map<StatType, Number> changes) {
+        return applyStats(item, changes, false);
     }
 
     /**
-     * Add damage to an armor piece.
+     * Set a stat on an item to a value, such as from the edit command.
+     * The item is edited in place, the same as {@link #updateStat(ItemStack, StatType, Number)}.
      *
-     * @param armorPiece The armor to update.
-     * @param damage     The amount of damage to apply.
-     * @param bypass     Bypass the negative damage check.
+     * @param item  The item to update.
+     * @param stat  The stat to set.
+     * @param value The new value.
+     * @return True if the item was changed.
      */
-    public ItemMeta updateArmorDamage(ItemStack armorPiece, double damage, boolean bypass) {
-        // ignore if the damage is zero or negative
-        if (damage < 0) {
-            if (!bypass) {
-                return null;
-            }
-        }
-        ItemStack clone = armorPiece.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.armor-damage")) {
-            if (container.has(toolStats.toolStatsKeys.getArmorDamage())) {
-                Double armorDamage = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-                if (armorDamage == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getArmorDamage());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "damage-taken");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldDamageTakenFormatted = toolStats.numberFormat.formatDouble(armorDamage);
-                    Component lineToRemove = toolStats.configTools.formatLore("damage-taken", "{damage}", oldDamageTakenFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "damage-taken");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getArmorDamage()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Double damageTaken = 0.0;
-        if (container.has(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE)) {
-            damageTaken = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-        }
-
-        if (damageTaken == null) {
-            damageTaken = 0.0;
-            toolStats.logger.warn("{} does not have valid damage-taken set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE, damageTaken + damage);
-        String oldDamageFormatted = toolStats.numberFormat.formatDouble(damageTaken);
-        String newDamageFormatted = toolStats.numberFormat.formatDouble(damageTaken + damage);
-        Component oldLine = toolStats.configTools.formatLore("damage-taken", "{damage}", oldDamageFormatted);
-        Component newLine = toolStats.configTools.formatLore("damage-taken", "{damage}", newDamageFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    public boolean setStat(ItemStack item, StatType stat, Number value) {
+        return applyStats(item, Map.of(stat, value), true);
     }
 
     /**
-     * Add damage to a weapon.
+     * Add to or set stats on an item, see {@link #updateStats(ItemStack, Map)}.
      *
-     * @param weapon The weapon to update.
-     * @param damage The amount of damage to apply.
-     * @param bypass Bypass the negative damage check.
+     * @param item     The item to update.
+     * @param changes  The value for each stat.
+     * @param absolute True to set each stat to its value, false to add to it.
+     * @return True if the item was changed.
      */
-    public ItemMeta updateWeaponDamage(ItemStack weapon, double damage, boolean bypass) {
-        // ignore if the damage is zero or negative
-        if (damage < 0) {
-            if (!bypass) {
-                return null;
-            }
-        }
-        ItemStack clone = weapon.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.configTools.checkConfig(clone.getType(), "damage-done")) {
-            if (container.has(toolStats.toolStatsKeys.getDamageDone())) {
-                Double damageDone = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-                if (damageDone == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getDamageDone());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "damage-done");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
+    private boolean applyStats(ItemStack item, Map<StatType, Number> changes, boolean absolute) {
+        if (item.isEmpty() || changes.isEmpty()) {
+            return false;
+        }
+
+        boolean lazy = toolStats.settings.lazyLore;
+        PersistentDataContainerView view = item.getPersistentDataContainer();
+        // decode the stats once, instead of once per stat
+        Map<StatType, Number> stats = toolStats.statStorage.readAll(view);
+        Map<StatType, Number> disabled = new EnumMap<>(StatType.class);
+        List<StatChange> updates = new ArrayList<>(changes.size());
+        boolean upgrade = toolStats.itemUpgrader.needsUpgrade(view);
+        long oldTokens = toolStats.itemChecker.getTokens(view);
+        if (upgrade) {
+            // the upgrade gives every stat on the item its token
+            oldTokens |= toolStats.itemChecker.addTokensToExisting(view);
+        }
+        long newTokens = oldTokens;
+        for (Map.Entry<StatType, Number> entry : changes.entrySet()) {
+            StatType stat = entry.getKey();
+
+            // if it's disabled, don't update the stats
+            // check to see if the item has the stats, remove them if it does
+            if (!stat.isEnabled(toolStats.settings, item.getType())) {
+                Number value = stats.get(stat);
+                if (value != null) {
+                    disabled.put(stat, value);
+                }
+                continue;
+            }
+
+            // check for tokens
+            if ((newTokens & stat.getMask()) == 0) {
+                // the item does not have a valid token
+                if (toolStats.settings.tokensEnabled) {
+                    continue;
+                }
+                // tokens are off, add the token anyway, so it's there if tokens are turned on
+                newTokens |= stat.getMask();
+            }
+
+            // read the current stats from the item
+            // if they don't exist, then start from 0
+            Number value = stats.get(stat);
+            if (value == null) {
+                NamespacedKey key = stat.getKey(toolStats.toolStatsKeys);
+                if (view.has(key)) {
+                    toolStats.logger.warn("{} does not have valid {} set! Resting to zero. This should NEVER happen.", item, key.getKey());
+                }
+                value = stat.getValueType().zero();
+            }
+
+            Number newValue = absolute ? entry.getValue() : stat.getValueType().add(value, entry.getValue());
+            if (lazy) {
+                // the lore is rendered later, so skip building the lines
+                updates.add(new StatChange(stat, value, newValue, null, null));
+                continue;
+            }
+            Component oldLine = formatStat(stat, value);
+            Component newLine = formatStat(stat, newValue);
+            if (oldLine == null || newLine == null) {
+                continue;
+            }
+            updates.add(new StatChange(stat, value, newValue, oldLine, newLine));
+        }
+        if (disabled.isEmpty() && updates.isEmpty()) {
+            return false;
+        }
+
+        // with lazy lore, only read the lore if it has to change now
+        boolean editLore = !lazy || upgrade || !disabled.isEmpty();
+        List<Component> lore = editLore ? getLore(item) : null;
+        boolean tokensChanged = newTokens != oldTokens;
+        long tokens = newTokens;
+        item.editPersistentDataContainer(container -> {
+            // older items are upgraded once, so we don't have to check for old data every time
+            if (upgrade) {
+                toolStats.itemUpgrader.upgrade(container, lore);
+            }
+            for (Map.Entry<StatType, Number> entry : disabled.entrySet()) {
+                removeStat(container, lore, entry.getKey(), entry.getValue());
+            }
+            if (tokensChanged) {
+                toolStats.itemChecker.setTokens(container, tokens);
+            }
+            Map<StatType, Number> newValues = new EnumMap<>(StatType.class);
+            for (StatChange change : updates) {
+                newValues.put(change.stat(), change.newValue());
+            }
+            // the disabled stats were just removed, everything else is as we read it
+            stats.keySet().removeAll(disabled.keySet());
+            toolStats.statStorage.writeAll(container, stats, newValues);
+            if (lazy) {
+                PersistentDataContainer shown = getShownStats(container);
+                for (StatChange change : updates) {
+                    // the lore still shows the value from before the first change
+                    if (!shown.has(change.stat().getKey(toolStats.toolStatsKeys))) {
+                        change.stat().write(shown, toolStats.toolStatsKeys, change.oldValue());
                     }
                 }
-                if (meta.hasLore()) {
-                    String oldDamageDoneFormatted = toolStats.numberFormat.formatDouble(damageDone);
-                    Component lineToRemove = toolStats.configTools.formatLore("damage-done", "{damage}", oldDamageDoneFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "damage-done");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getDamageDone()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
+                container.set(toolStats.toolStatsKeys.getShownStats(), PersistentDataType.TAG_CONTAINER, shown);
+                return;
             }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
+            for (StatChange change : updates) {
+                // the lore may still show an older value from lazy lore
+                Number shownValue = takeShownValue(container, change.stat());
+                Component oldLine = shownValue == null ? change.oldLine() : formatStat(change.stat(), shownValue);
+                if (oldLine == null) {
+                    oldLine = change.oldLine();
                 }
+                updateItemLore(lore, container, change.stat(), oldLine, change.newLine());
             }
+        });
+        if (editLore) {
+            setLore(item, lore);
         }
-
-        Double damageDone = 0.0;
-        if (container.has(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE)) {
-            damageDone = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-        }
-
-        if (damageDone == null) {
-            damageDone = 0.0;
-            toolStats.logger.warn("{} does not have valid damage-done set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE, damageDone + damage);
-        String oldDamageFormatted = toolStats.numberFormat.formatDouble(damageDone);
-        String newDamageFormatted = toolStats.numberFormat.formatDouble(damageDone + damage);
-        Component oldLine = toolStats.configTools.formatLore("damage-done", "{damage}", oldDamageFormatted);
-        Component newLine = toolStats.configTools.formatLore("damage-done", "{damage}", newDamageFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+        return true;
     }
 
     /**
-     * Add flight time to an elytra.
+     * Update the lines for every stat that changed since the lore was last rendered.
+     * This only does something if the item was updated with lazy lore on.
      *
-     * @param elytra The player's elytra.
+     * @param item The item, which is edited in place.
+     * @return True if the lore was changed.
      */
-    public ItemMeta updateFlightTime(ItemStack elytra, long duration) {
-        ItemStack clone = elytra.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.flight-time")) {
-            if (container.has(toolStats.toolStatsKeys.getFlightTime())) {
-                Long flightTime = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-                if (flightTime == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getFlightTime());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "flight-time");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    // if the old format is in the config, check to see if the old format is on the elytra
-                    if (toolStats.config.getString("messages.flight-time-old") != null) {
-                        String oldFormatFormatted = toolStats.numberFormat.formatDouble((double) flightTime / 1000);
-                        Component oldFormat = toolStats.configTools.formatLore("flight-time-old", "{time}", oldFormatFormatted);
-                        List<Component> newLore = removeLore(meta.lore(), oldFormat);
-                        meta.lore(newLore);
-                    }
-
-                    Map<String, String> oldFlightTimeFormatted = toolStats.numberFormat.formatTime(flightTime);
-                    Component lineToRemove = toolStats.configTools.formatLoreMultiplePlaceholders("flight-time", oldFlightTimeFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "flight-time");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getFlightTime()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        // read the current stats from the item
-        // if they don't exist, then start from 0
-        Long flightTime = 0L;
-        if (container.has(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG)) {
-            flightTime = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-        }
-
-        if (flightTime == null) {
-            flightTime = 0L;
-            toolStats.logger.warn("{} does not have valid flight-time set! Resting to zero. This should NEVER happen.", flightTime);
-        }
-
-        container.set(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG, flightTime + duration);
-        Map<String, String> oldFlightFormatted = toolStats.numberFormat.formatTime(flightTime);
-        Map<String, String> newFlightFormatted = toolStats.numberFormat.formatTime(flightTime + duration);
-        // if the old format is in the config, check to see if the old format is on the elytra
-        if (toolStats.config.getString("messages.flight-time-old") != null) {
-            if (meta.hasLore()) {
-                String oldFormatFormatted = toolStats.numberFormat.formatDouble((double) flightTime / 1000);
-                Component oldFormat = toolStats.configTools.formatLore("flight-time-old", "{time}", oldFormatFormatted);
-                meta.lore(removeLore(meta.lore(), oldFormat));
-            }
-        }
-        Component oldLine = toolStats.configTools.formatLoreMultiplePlaceholders("flight-time", oldFlightFormatted);
-        Component newLine = toolStats.configTools.formatLoreMultiplePlaceholders("flight-time", newFlightFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    public boolean renderLore(ItemStack item) {
+        if (item == null || item.isEmpty()) {
+            return false;
+        }
+        NamespacedKey shownKey = toolStats.toolStatsKeys.getShownStats();
+        if (!item.getPersistentDataContainer().has(shownKey)) {
+            return false;
+        }
+
+        List<Component> lore = getLore(item);
+        item.editPersistentDataContainer(container -> {
+            PersistentDataContainer shown = container.get(shownKey, PersistentDataType.TAG_CONTAINER);
+            container.remove(shownKey);
+            if (shown == null) {
+                return;
+            }
+            Map<StatType, Number> stats = toolStats.statStorage.readAll(container);
+            for (StatType stat : StatType.values()) {
+                Number shownValue = stat.read(shown, toolStats.toolStatsKeys);
+                Number value = stats.get(stat);
+                if (shownValue == null || value == null) {
+                    continue;
+                }
+                Component oldLine = formatStat(stat, shownValue);
+                Component newLine = formatStat(stat, value);
+                if (oldLine == null || newLine == null) {
+                    continue;
+                }
+                updateItemLore(lore, container, stat, oldLine, newLine);
+            }
+        });
+        setLore(item, lore);
+        return true;
     }
 
     /**
-     * Add x to sheep sheared stat.
+     * Get the values the lore still shows for stats that changed with lazy lore.
      *
-     * @param shears The shears.
+     * @param container The item's container.
+     * @return A copy of the values, which is empty if there are none.
      */
-    public ItemMeta updateSheepSheared(ItemStack shears, int add) {
-        ItemStack clone = shears.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.sheep-sheared")) {
-            if (container.has(toolStats.toolStatsKeys.getSheepSheared())) {
-                Integer sheepSheared = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-                if (sheepSheared == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getSheepSheared());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "sheep-sheared");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldSheepShearedFormatted = toolStats.numberFormat.formatInt(sheepSheared);
-                    Component lineToRemove = toolStats.configTools.formatLore("sheep-sheared", "{sheep}", oldSheepShearedFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "sheep-sheared");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getSheepSheared()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer sheepSheared = 0;
-        if (container.has(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER)) {
-            sheepSheared = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-        }
-
-        if (sheepSheared == null) {
-            sheepSheared = 0;
-            toolStats.logger.warn("{} does not have valid sheared set! Resting to zero. This should NEVER happen.", clone);
+    private PersistentDataContainer getShownStats(PersistentDataContainer container) {
+        PersistentDataContainer shown = container.get(toolStats.toolStatsKeys.getShownStats(), PersistentDataType.TAG_CONTAINER);
+        if (shown == null) {
+            shown = container.getAdapterContext().newPersistentDataContainer();
         }
-
-        container.set(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER, sheepSheared + add);
-        String oldSheepFormatted = toolStats.numberFormat.formatInt(sheepSheared);
-        String newSheepFormatted = toolStats.numberFormat.formatInt(sheepSheared + add);
-        Component oldLine = toolStats.configTools.formatLore("sheep-sheared", "{sheep}", oldSheepFormatted);
-        Component newLine = toolStats.configTools.formatLore("sheep-sheared", "{sheep}", newSheepFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+        return shown;
     }
 
     /**
-     * Add x to arrows shot stat.
+     * Get and forget the value the lore still shows for a stat, for when its line is updated or removed.
      *
-     * @param bow The bow.
+     * @param container The item's container.
+     * @param stat      The stat.
+     * @return The value in the lore, null if the lore is up-to-date.
      */
-    public ItemMeta updateArrowsShot(ItemStack bow, int add) {
-        ItemStack clone = bow.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
+    private Number takeShownValue(PersistentDataContainer container, StatType stat) {
+        NamespacedKey shownKey = toolStats.toolStatsKeys.getShownStats();
+        if (!container.has(shownKey)) {
             return null;
         }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.arrows-shot")) {
-            if (container.has(toolStats.toolStatsKeys.getArrowsShot())) {
-                Integer arrowsShot = container.get(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER);
-                if (arrowsShot == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getArrowsShot());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "arrows-shot");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldArrowsShotFormatted = toolStats.numberFormat.formatInt(arrowsShot);
-                    Component lineToRemove = toolStats.configTools.formatLore("arrows-shot", "{arrows}", oldArrowsShotFormatted);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
+        PersistentDataContainer shown = getShownStats(container);
+        Number value = stat.read(shown, toolStats.toolStatsKeys);
+        if (value == null) {
             return null;
         }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "arrows-shot");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getArrowsShot()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
+        shown.remove(stat.getKey(toolStats.toolStatsKeys));
+        if (shown.isEmpty()) {
+            container.remove(shownKey);
         } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        // read the current stats from the item
-        // if they don't exist, then start from 0
-        Integer arrowsShot = 0;
-        if (container.has(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER)) {
-            arrowsShot = container.get(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER);
-        }
-
-        if (arrowsShot == null) {
-            arrowsShot = 0;
-            toolStats.logger.warn("{} does not have valid arrows-shot set! Resting to zero. This should NEVER happen.", arrowsShot);
-        }
-
-        container.set(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER, arrowsShot + add);
-        String oldArrowsFormatted = toolStats.numberFormat.formatInt(arrowsShot);
-        String newArrowsFormatted = toolStats.numberFormat.formatInt(arrowsShot + add);
-        Component oldLine = toolStats.configTools.formatLore("arrows-shot", "{arrows}", oldArrowsFormatted);
-        Component newLine = toolStats.configTools.formatLore("arrows-shot", "{arrows}", newArrowsFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
+            container.set(shownKey, PersistentDataType.TAG_CONTAINER, shown);
         }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+        return value;
     }
 
     /**
-     * Add x to fish caught stat.
+     * Format the lore line for a stat.
      *
-     * @param fishingRod The fishing rod.
+     * @param stat  The stat.
+     * @param value The stat's value.
+     * @return The line, null if the message is empty.
      */
-    public ItemMeta updateFishCaught(ItemStack fishingRod, int add) {
-        ItemStack clone = fishingRod.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.fish-caught")) {
-            if (container.has(toolStats.toolStatsKeys.getFishCaught())) {
-                Integer fishCaught = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-                if (fishCaught == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getFishCaught());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "fish-caught");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldFishCaught = toolStats.numberFormat.formatInt(fishCaught);
-                    Component lineToRemove = toolStats.configTools.formatLore("fished.fish-caught", "{fish}", oldFishCaught);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "fish-caught");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getFishCaught()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer fishCaught = 0;
-        if (container.has(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER)) {
-            fishCaught = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-        }
-
-        if (fishCaught == null) {
-            fishCaught = 0;
-            toolStats.logger.warn("{} does not have valid fish-caught set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER, fishCaught + add);
-        String oldFishFormatted = toolStats.numberFormat.formatInt(fishCaught);
-        String newFishFormatted = toolStats.numberFormat.formatInt(fishCaught + add);
-        Component oldLine = toolStats.configTools.formatLore("fished.fish-caught", "{fish}", oldFishFormatted);
-        Component newLine = toolStats.configTools.formatLore("fished.fish-caught", "{fish}", newFishFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    public Component formatStat(StatType stat, Number value) {
+        return switch (stat.getValueType()) {
+            case INTEGER -> toolStats.configTools.formatLore(stat.getMessage(), stat.getPlaceHolder(), toolStats.settings.numberFormat.formatInt(value.intValue()));
+            case DOUBLE -> toolStats.configTools.formatLore(stat.getMessage(), stat.getPlaceHolder(), toolStats.settings.numberFormat.formatDouble(value.doubleValue()));
+            case DURATION -> toolStats.configTools.formatFlightTime(value.longValue());
+        };
     }
 
     /**
-     * Add x to bosses killed stat.
+     * Remove the lore line for a stat.
      *
-     * @param weapon The weapon used.
-     * @param add How many to add.
-     * @param boss The boss killed
+     * @param lore      The item's lore, which is updated.
+     * @param container The item's container, where the lore index is.
+     * @param stat      The stat.
+     * @param value     The stat's value on the item.
      */
-    public ItemMeta updateBossesKilled(ItemStack weapon, int add, String boss) {
-        ItemStack clone = weapon.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        NamespacedKey bossesKey = null;
-        if (boss.equalsIgnoreCase("wither")) {
-            bossesKey = toolStats.toolStatsKeys.getWitherKills();
-        }
-        if (boss.equalsIgnoreCase("enderdragon")) {
-            bossesKey = toolStats.toolStatsKeys.getEnderDragonKills();
-        }
-
-        if (bossesKey == null) {
-            return null;
-        }
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.bosses-killed." + boss)) {
-            if (container.has(bossesKey)) {
-                Integer bossesKilled = container.get(bossesKey, PersistentDataType.INTEGER);
-                if (bossesKilled == null) {
-                    return null;
-                }
-                container.remove(bossesKey);
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "wither-kills");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldBossesKilled = toolStats.numberFormat.formatInt(bossesKilled);
-                    Component lineToRemove = toolStats.configTools.formatLore("bosses-killed." + boss, "{kills}", oldBossesKilled);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "wither-kills");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(bossesKey) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
+    private void removeStatLore(List<Component> lore, PersistentDataContainer container, StatType stat, Number value) {
+        // the lore may still show an older value from lazy lore
+        Number shownValue = takeShownValue(container, stat);
+        if (shownValue != null) {
+            value = shownValue;
         }
-
-        Integer bossesKilled = 0;
-        if (container.has(bossesKey, PersistentDataType.INTEGER)) {
-            bossesKilled = container.get(bossesKey, PersistentDataType.INTEGER);
+        // if the old format is in the config, check to see if the old format is on the elytra
+        if (stat == StatType.FLIGHT_TIME && toolStats.settings.oldFlightTimeFormat) {
+            removeOldFlightTime(lore, value);
         }
-
-        if (bossesKilled == null) {
-            bossesKilled = 0;
-            toolStats.logger.warn("{} does not have valid {} set! Resting to zero. This should NEVER happen.", clone, boss);
+        Component oldLine = formatStat(stat, value);
+        if (oldLine == null) {
+            return;
         }
 
-        container.set(bossesKey, PersistentDataType.INTEGER, bossesKilled + add);
-        String oldBossesKilledFormatted = toolStats.numberFormat.formatInt(bossesKilled);
-        String newBossesKilledFormatted = toolStats.numberFormat.formatInt(bossesKilled + add);
-        Component oldLine = toolStats.configTools.formatLore("bosses-killed." + boss, "{kills}", oldBossesKilledFormatted);
-        Component newLine = toolStats.configTools.formatLore("bosses-killed." + boss, "{kills}", newBossesKilledFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
+        NamespacedKey indexKey = toolStats.toolStatsKeys.getLoreIndex();
+        LoreIndex index = LoreIndex.read(container, indexKey, lore.size());
+        int line = findStatLine(lore, index, stat, oldLine);
+        if (line == -1) {
+            return;
         }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+        lore.remove(line);
+        index.lineRemoved(line);
+        index.write(container, indexKey);
     }
 
     /**
-     * Add x to critical strikes stat.
+     * Remove a stat from an item completely, along with its token and lore.
+     * The item is edited in place.
      *
-     * @param weapon The weapon used.
+     * @param item The item.
+     * @param stat The stat to remove.
+     * @return True if the item had the stat.
      */
-    public ItemMeta updateCriticalStrikes(ItemStack weapon, int add) {
-        ItemStack clone = weapon.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.critical-strikes")) {
-            if (container.has(toolStats.toolStatsKeys.getCriticalStrikes())) {
-                Integer criticalStrikes = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-                if (criticalStrikes == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getCriticalStrikes());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "critical-strikes");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldCriticalStrikes = toolStats.numberFormat.formatInt(criticalStrikes);
-                    Component lineToRemove = toolStats.configTools.formatLore("critical-strikes", "{strikes}", oldCriticalStrikes);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "critical-strikes");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getCriticalStrikes()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer criticalStrikes = 0;
-        if (container.has(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER)) {
-            criticalStrikes = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-        }
-
-        if (criticalStrikes == null) {
-            criticalStrikes = 0;
-            toolStats.logger.warn("{} does not have valid critical-strikes set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER, criticalStrikes + add);
-        String oldCriticalStrikesFormatted = toolStats.numberFormat.formatInt(criticalStrikes);
-        String newCriticalStrikesFormatted = toolStats.numberFormat.formatInt(criticalStrikes + add);
-        Component oldLine = toolStats.configTools.formatLore("critical-strikes", "{strikes}", oldCriticalStrikesFormatted);
-        Component newLine = toolStats.configTools.formatLore("critical-strikes", "{strikes}", newCriticalStrikesFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    public boolean removeStat(ItemStack item, StatType stat) {
+        if (item.isEmpty()) {
+            return false;
+        }
+        Number value = toolStats.statStorage.read(item.getPersistentDataContainer(), stat);
+        if (value == null) {
+            return false;
+        }
+        List<Component> lore = getLore(item);
+        item.editPersistentDataContainer(container -> removeStat(container, lore, stat, value));
+        setLore(item, lore);
+        return true;
     }
 
     /**
-     * Add x to trident throws.
+     * Remove a stat's value, token and lore line.
      *
-     * @param trident The trident used.
+     * @param container The item's container.
+     * @param lore      The item's lore, which is updated.
+     * @param stat      The stat to remove.
+     * @param value     The stat's value on the item.
      */
-    public ItemMeta updateTridentThrows(ItemStack trident, int add) {
-        ItemStack clone = trident.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.trident-throws")) {
-            if (container.has(toolStats.toolStatsKeys.getTridentThrows())) {
-                Integer tridentThrows = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-                if (tridentThrows == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getTridentThrows());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "trident-throws");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldTridentThrows = toolStats.numberFormat.formatInt(tridentThrows);
-                    Component lineToRemove = toolStats.configTools.formatLore("trident-throws", "{times}", oldTridentThrows);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "trident-throws");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getTridentThrows()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer tridentThrows = 0;
-        if (container.has(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER)) {
-            tridentThrows = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-        }
-
-        if (tridentThrows == null) {
-            tridentThrows = 0;
-            toolStats.logger.warn("{} does not have valid trident-throws set! Resting to zero. This should NEVER happen.", clone);
-        }
-
-        container.set(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER, tridentThrows + add);
-        String oldTridentThrowsFormatted = toolStats.numberFormat.formatInt(tridentThrows);
-        String newTridentThrowsFormatted = toolStats.numberFormat.formatInt(tridentThrows + add);
-        Component oldLine = toolStats.configTools.formatLore("trident-throws", "{times}", oldTridentThrowsFormatted);
-        Component newLine = toolStats.configTools.formatLore("trident-throws", "{times}", newTridentThrowsFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    private void removeStat(PersistentDataContainer container, List<Component> lore, StatType stat, Number value) {
+        toolStats.statStorage.remove(container, stat);
+        // remove the applied token too
+        removeAppliedToken(container, stat);
+        removeStatLore(lore, container, stat, value);
     }
 
     /**
-     * Add x to logs stripped.
+     * Remove a token from the applied tokens on an item.
+     * If there are no tokens left, the key is removed.
      *
-     * @param axe The axe used.
+     * @param container The item's container.
+     * @param stat      The stat the token is for.
      */
-    public ItemMeta updateLogsStripped(ItemStack axe, int add) {
-        ItemStack clone = axe.clone();
-        ItemMeta meta = clone.getItemMeta();
-        if (meta == null) {
-            toolStats.logger.warn("{} does NOT have any meta! Unable to update stats.", clone);
-            return null;
-        }
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // if it's disabled, don't update the stats
-        // check to see if the item has the stats, remove them if it does
-        if (!toolStats.config.getBoolean("enabled.logs-stripped")) {
-            if (container.has(toolStats.toolStatsKeys.getLogsStripped())) {
-                Integer logsStripped = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-                if (logsStripped == null) {
-                    return null;
-                }
-                container.remove(toolStats.toolStatsKeys.getLogsStripped());
-                // remove the applied token if this stat is disabled
-                if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-                    String appliedTokens = container.get(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING);
-                    if (appliedTokens != null) {
-                        // remove the token from the list
-                        // if the list is empty, remove the PDC
-                        // otherwise set the PDC back with the new list
-                        List<String> newTokens = toolStats.itemChecker.removeToken(appliedTokens, "logs-stripped");
-                        if (!newTokens.isEmpty()) {
-                            container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, String.join(",", newTokens));
-                        } else {
-                            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-                        }
-                    }
-                }
-                if (meta.hasLore()) {
-                    String oldLogsStripped = toolStats.numberFormat.formatInt(logsStripped);
-                    Component lineToRemove = toolStats.configTools.formatLore("logs-stripped", "{logs}", oldLogsStripped);
-                    List<Component> newLore = removeLore(meta.lore(), lineToRemove);
-                    meta.lore(newLore);
-                }
-                return meta;
-            }
-            return null;
-        }
-
-        // check for tokens
-        boolean validToken = toolStats.itemChecker.checkTokens(container, "logs-stripped");
-        // check for tokens
-        if (toolStats.config.getBoolean("tokens.enabled")) {
-            // if the item has stats but no token, add the token
-            if (container.has(toolStats.toolStatsKeys.getLogsStripped()) && !validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-
-            // the item does not have a valid token
-            if (!validToken) {
-                return null;
-            }
-        } else {
-            if (!validToken) {
-                String newTokens = toolStats.itemChecker.addTokensToExisting(clone);
-                if (newTokens != null) {
-                    container.set(toolStats.toolStatsKeys.getTokenApplied(), PersistentDataType.STRING, newTokens);
-                }
-            }
-        }
-
-        Integer logsStripped = 0;
-        if (container.has(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER)) {
-            logsStripped = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-        }
-
-        if (logsStripped == null) {
-            logsStripped = 0;
-            toolStats.logger.warn("{} does not have valid logs-stripped set! Resting to zero. This should NEVER happen.", clone);
+    private void removeAppliedToken(PersistentDataContainer container, StatType stat) {
+        long tokens = toolStats.itemChecker.getTokens(container);
+        if ((tokens & stat.getMask()) != 0) {
+            toolStats.itemChecker.setTokens(container, tokens & ~stat.getMask());
         }
+    }
 
-        container.set(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER, logsStripped + add);
-        String oldLogsStrippedFormatted = toolStats.numberFormat.formatInt(logsStripped);
-        String newLogsStrippedFormatted = toolStats.numberFormat.formatInt(logsStripped + add);
-        Component oldLine = toolStats.configTools.formatLore("logs-stripped", "{logs}", oldLogsStrippedFormatted);
-        Component newLine = toolStats.configTools.formatLore("logs-stripped", "{logs}", newLogsStrippedFormatted);
-        if (oldLine == null || newLine == null) {
-            return null;
-        }
-        List<Component> newLore = updateItemLore(meta, oldLine, newLine);
-        meta.lore(newLore);
-        return meta;
+    /**
+     * Remove the flight time line from before config version 11.
+     *
+     * @param lore       The item's lore, which is updated.
+     * @param flightTime The flight time on the item.
+     */
+    public void removeOldFlightTime(List<Component> lore, Number flightTime) {
+        String oldFormatFormatted = toolStats.settings.numberFormat.formatDouble(flightTime.doubleValue() / 1000);
+        removeLine(lore, toolStats.configTools.formatLore("flight-time-old", "{time}", oldFormatFormatted));
     }
 
     /**
@@ -1522,37 +523,37 @@ public class ItemLore {
     public Component formatOwner(String playerName, int origin, ItemStack item) {
         switch (origin) {
             case 0: {
-                if (toolStats.configTools.checkConfig(item.getType(), "crafted-by")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.CRAFTED_BY)) {
                     return toolStats.configTools.formatLore("crafted.crafted-by", "{player}", playerName);
                 }
                 break;
             }
             case 2: {
-                if (toolStats.configTools.checkConfig(item.getType(), "looted-by")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.LOOTED_BY)) {
                     return toolStats.configTools.formatLore("looted.looted-by", "{player}", playerName);
                 }
                 break;
             }
             case 3: {
-                if (toolStats.configTools.checkConfig(item.getType(), "traded-by")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.TRADED_BY)) {
                     return toolStats.configTools.formatLore("traded.traded-by", "{player}", playerName);
                 }
                 break;
             }
             case 4: {
-                if (toolStats.config.getBoolean("enabled.elytra-tag")) {
+                if (toolStats.settings.elytraTag) {
                     return toolStats.configTools.formatLore("looted.found-by", "{player}", playerName);
                 }
                 break;
             }
             case 5: {
-                if (toolStats.configTools.checkConfig(item.getType(), "fished-by")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.FISHED_BY)) {
                     return toolStats.configTools.formatLore("fished.caught-by", "{player}", playerName);
                 }
                 break;
             }
             case 6: {
-                if (toolStats.configTools.checkConfig(item.getType(), "spawned-in-by")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.SPAWNED_IN_BY)) {
                     return toolStats.configTools.formatLore("spawned-in.spawned-by", "{player}", playerName);
                 }
                 break;
@@ -1570,46 +571,46 @@ public class ItemLore {
      * @return A component with the lore.
      */
     public Component formatCreationTime(long creationDate, int origin, ItemStack item) {
-        String date = toolStats.numberFormat.formatDate(new Date(creationDate));
+        String date = toolStats.settings.numberFormat.formatDate(new Date(creationDate));
         switch (origin) {
             case 0: {
-                if (toolStats.configTools.checkConfig(item.getType(), "crafted-on")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.CRAFTED_ON)) {
                     return toolStats.configTools.formatLore("crafted.crafted-on", "{date}", date);
                 }
                 break;
             }
             case 1: {
-                if (toolStats.config.getBoolean("enabled.dropped-on")) {
+                if (toolStats.settings.droppedOn) {
                     return toolStats.configTools.formatLore("dropped-on", "{date}", date);
                 }
                 break;
             }
             case 2: {
-                if (toolStats.configTools.checkConfig(item.getType(), "looted-on")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.LOOTED_ON)) {
                     return toolStats.configTools.formatLore("looted.looted-on", "{date}", date);
                 }
                 break;
             }
             case 3: {
-                if (toolStats.configTools.checkConfig(item.getType(), "traded-on")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.TRADED_ON)) {
                     return toolStats.configTools.formatLore("traded.traded-on", "{date}", date);
                 }
                 break;
             }
             case 4: {
-                if (toolStats.config.getBoolean("enabled.elytra-tag")) {
+                if (toolStats.settings.elytraTag) {
                     return toolStats.configTools.formatLore("looted.found-on", "{date}", date);
                 }
                 break;
             }
             case 5: {
-                if (toolStats.configTools.checkConfig(item.getType(), "fished-on")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.FISHED_ON)) {
                     return toolStats.configTools.formatLore("fished.caught-on", "{date}", date);
                 }
                 break;
             }
             case 6: {
-                if (toolStats.configTools.checkConfig(item.getType(), "spawned-in-on")) {
+                if (toolStats.configTools.checkConfig(item.getType(), ItemToggle.SPAWNED_IN_ON)) {
                     return toolStats.configTools.formatLore("spawned-in.spawned-on", "{date}", date);
                 }
                 break;
@@ -1626,198 +627,60 @@ public class ItemLore {
      */
     public ItemStack removeAll(ItemStack inputItem, boolean removeMeta) {
         ItemStack finalItem = inputItem.clone();
-        ItemMeta meta = finalItem.getItemMeta();
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-
-        // remove the applied tokens
-        if (container.has(toolStats.toolStatsKeys.getTokenApplied())) {
-            container.remove(toolStats.toolStatsKeys.getTokenApplied());
-        }
-
-        if (container.has(toolStats.toolStatsKeys.getPlayerKills())) {
-            Integer playerKills = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-            if (playerKills != null) {
-                container.remove(toolStats.toolStatsKeys.getPlayerKills());
-
-                String playerKillsFormatted = toolStats.numberFormat.formatInt(playerKills);
-                Component lineToRemove = toolStats.configTools.formatLore("kills.player", "{kills}", playerKillsFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getMobKills())) {
-            Integer mobKills = container.get(toolStats.toolStatsKeys.getMobKills(), PersistentDataType.INTEGER);
-            if (mobKills != null) {
-                container.remove(toolStats.toolStatsKeys.getMobKills());
-                String mobKillsFormatted = toolStats.numberFormat.formatInt(mobKills);
-                Component lineToRemove = toolStats.configTools.formatLore("kills.mob", "{kills}", mobKillsFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getBlocksMined())) {
-            Integer blocksMined = container.get(toolStats.toolStatsKeys.getBlocksMined(), PersistentDataType.INTEGER);
-            if (blocksMined != null) {
-                container.remove(toolStats.toolStatsKeys.getBlocksMined());
-                String blocksMinedFormatted = toolStats.numberFormat.formatInt(blocksMined);
-                Component lineToRemove = toolStats.configTools.formatLore("blocks-mined", "{blocks}", blocksMinedFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getCropsHarvested())) {
-            Integer cropsHarvested = container.get(toolStats.toolStatsKeys.getPlayerKills(), PersistentDataType.INTEGER);
-            if (cropsHarvested != null) {
-                container.remove(toolStats.toolStatsKeys.getCropsHarvested());
-                String cropsHarvestedFormatted = toolStats.numberFormat.formatInt(cropsHarvested);
-                Component lineToRemove = toolStats.configTools.formatLore("crops-harvested", "{crops}", cropsHarvestedFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getFishCaught())) {
-            Integer fishCaught = container.get(toolStats.toolStatsKeys.getFishCaught(), PersistentDataType.INTEGER);
-            if (fishCaught != null) {
-                container.remove(toolStats.toolStatsKeys.getFishCaught());
-                String fishCaughtFormatted = toolStats.numberFormat.formatInt(fishCaught);
-                Component lineToRemove = toolStats.configTools.formatLore("fished.fish-caught", "{fish}", fishCaughtFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getSheepSheared())) {
-            Integer sheepSheared = container.get(toolStats.toolStatsKeys.getSheepSheared(), PersistentDataType.INTEGER);
-            if (sheepSheared != null) {
-                container.remove(toolStats.toolStatsKeys.getSheepSheared());
-                String sheepShearedFormatted = toolStats.numberFormat.formatInt(sheepSheared);
-                Component lineToRemove = toolStats.configTools.formatLore("sheep.sheared", "{sheep}", sheepShearedFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getArmorDamage())) {
-            Double armorDamage = container.get(toolStats.toolStatsKeys.getArmorDamage(), PersistentDataType.DOUBLE);
-            if (armorDamage != null) {
-                container.remove(toolStats.toolStatsKeys.getArmorDamage());
-                String armorDamageFormatted = toolStats.numberFormat.formatDouble(armorDamage);
-                Component lineToRemove = toolStats.configTools.formatLore("damage-taken", "{damage}", armorDamageFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getDamageDone())) {
-            Double damageDone = container.get(toolStats.toolStatsKeys.getDamageDone(), PersistentDataType.DOUBLE);
-            if (damageDone != null) {
-                container.remove(toolStats.toolStatsKeys.getDamageDone());
-                String damageDoneFormatted = toolStats.numberFormat.formatDouble(damageDone);
-                Component lineToRemove = toolStats.configTools.formatLore("damage-done", "{damage}", damageDoneFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getArrowsShot())) {
-            Integer arrowsShot = container.get(toolStats.toolStatsKeys.getArrowsShot(), PersistentDataType.INTEGER);
-            if (arrowsShot != null) {
-                container.remove(toolStats.toolStatsKeys.getArrowsShot());
-                String arrowsShotFormatted = toolStats.numberFormat.formatInt(arrowsShot);
-                Component lineToRemove = toolStats.configTools.formatLore("arrows-shot", "{arrows}", arrowsShotFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getFlightTime())) {
-            Long flightTime = container.get(toolStats.toolStatsKeys.getFlightTime(), PersistentDataType.LONG);
-            if (flightTime != null) {
-                container.remove(toolStats.toolStatsKeys.getFlightTime());
-                Map<String, String> flightTimeFormatted = toolStats.numberFormat.formatTime(flightTime);
-                Component lineToRemove = toolStats.configTools.formatLoreMultiplePlaceholders("flight-time", flightTimeFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getWitherKills())) {
-            Integer witherKills = container.get(toolStats.toolStatsKeys.getWitherKills(), PersistentDataType.INTEGER);
-            if (witherKills != null) {
-                container.remove(toolStats.toolStatsKeys.getWitherKills());
-                String witherKillsFormatted = toolStats.numberFormat.formatInt(witherKills);
-                Component lineToRemove = toolStats.configTools.formatLore("bosses-killed.wither", "{kills}", witherKillsFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getEnderDragonKills())) {
-            Integer enderDragonKills = container.get(toolStats.toolStatsKeys.getEnderDragonKills(), PersistentDataType.INTEGER);
-            if (enderDragonKills != null) {
-                container.remove(toolStats.toolStatsKeys.getEnderDragonKills());
-                String enderDragonKillsFormatted = toolStats.numberFormat.formatInt(enderDragonKills);
-                Component lineToRemove = toolStats.configTools.formatLore("bosses-killed.enderdragon", "{kills}", enderDragonKillsFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getCriticalStrikes())) {
-            Integer criticalStrikes = container.get(toolStats.toolStatsKeys.getCriticalStrikes(), PersistentDataType.INTEGER);
-            if (criticalStrikes != null) {
-                container.remove(toolStats.toolStatsKeys.getCriticalStrikes());
-                String criticalStrikesFormatted = toolStats.numberFormat.formatInt(criticalStrikes);
-                Component lineToRemove = toolStats.configTools.formatLore("critical-strikes", "{strikes}", criticalStrikesFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getTridentThrows())) {
-            Integer tridentThrows = container.get(toolStats.toolStatsKeys.getTridentThrows(), PersistentDataType.INTEGER);
-            if (tridentThrows != null) {
-                container.remove(toolStats.toolStatsKeys.getTridentThrows());
-                String tridentThrowsFormatted = toolStats.numberFormat.formatInt(tridentThrows);
-                Component lineToRemove = toolStats.configTools.formatLore("trident-throws", "{times}", tridentThrowsFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (container.has(toolStats.toolStatsKeys.getLogsStripped())) {
-            Integer logsStripped = container.get(toolStats.toolStatsKeys.getLogsStripped(), PersistentDataType.INTEGER);
-            if (logsStripped != null) {
-                container.remove(toolStats.toolStatsKeys.getLogsStripped());
-                String logsStrippedFormatted = toolStats.numberFormat.formatInt(logsStripped);
-                Component lineToRemove = toolStats.configTools.formatLore("logs-stripped", "{logs}", logsStrippedFormatted);
-                meta.lore(removeLore(meta.lore(), lineToRemove));
-                finalItem.setItemMeta(meta);
-            }
-        }
-        if (removeMeta) {
-            Integer origin = null;
-            if (container.has(toolStats.toolStatsKeys.getOriginType())) {
-                origin = container.get(toolStats.toolStatsKeys.getOriginType(), PersistentDataType.INTEGER);
-            }
-
-            if (container.has(toolStats.toolStatsKeys.getTimeCreated())) {
-                Long timeCreated = container.get(toolStats.toolStatsKeys.getTimeCreated(), PersistentDataType.LONG);
-                if (timeCreated != null && origin != null) {
-                    container.remove(toolStats.toolStatsKeys.getTimeCreated());
-                    Component timeCreatedLore = formatCreationTime(timeCreated, origin, finalItem);
-                    meta.lore(removeLore(meta.lore(), timeCreatedLore));
+        if (finalItem.isEmpty()) {
+            return finalItem;
+        }
+        List<Component> lore = getLore(finalItem);
+        finalItem.editPersistentDataContainer(container -> {
+            // remove the applied tokens
+            toolStats.itemChecker.setTokens(container, 0);
+
+            for (Map.Entry<StatType, Number> entry : toolStats.statStorage.readAll(container).entrySet()) {
+                toolStats.statStorage.remove(container, entry.getKey());
+                removeStatLore(lore, container, entry.getKey(), entry.getValue());
+            }
+            container.remove(toolStats.toolStatsKeys.getLoreIndex());
+            container.remove(toolStats.toolStatsKeys.getShownStats());
+            container.remove(toolStats.toolStatsKeys.getDataVersion());
+            container.remove(toolStats.toolStatsKeys.getBufferId());
+
+            if (removeMeta) {
+                Integer origin = null;
+                if (container.has(toolStats.toolStatsKeys.getOriginType())) {
+                    origin = container.get(toolStats.toolStatsKeys.getOriginType(), PersistentDataType.INTEGER);
+                }
+
+                if (container.has(toolStats.toolStatsKeys.getTimeCreated())) {
+                    Long timeCreated = container.get(toolStats.toolStatsKeys.getTimeCreated(), PersistentDataType.LONG);
+                    if (timeCreated != null && origin != null) {
+                        container.remove(toolStats.toolStatsKeys.getTimeCreated());
+                        removeLine(lore, formatCreationTime(timeCreated, origin, finalItem));
+                    }
                 }
-            }
-            if (container.has(toolStats.toolStatsKeys.getItemOwner())) {
-                UUID owner = container.get(toolStats.toolStatsKeys.getItemOwner(), new UUIDDataType());
-                if (owner != null && origin != null) {
-                    container.remove(toolStats.toolStatsKeys.getItemOwner());
-                    String ownerName = Bukkit.getOfflinePlayer(owner).getName();
-                    if (ownerName != null) {
-                        Component ownerLore = formatOwner(ownerName, origin, finalItem);
-                        meta.lore(removeLore(meta.lore(), ownerLore));
+                if (container.has(toolStats.toolStatsKeys.getItemOwner())) {
+                    UUID owner = container.get(toolStats.toolStatsKeys.getItemOwner(), new UUIDDataType());
+                    if (owner != null && origin != null) {
+                        container.remove(toolStats.toolStatsKeys.getItemOwner());
+                        String ownerName = Bukkit.getOfflinePlayer(owner).getName();
+                        if (ownerName != null) {
+                            removeLine(lore, formatOwner(ownerName, origin, finalItem));
+                        }
                     }
                 }
-            }
 
-            if (origin != null) {
-                container.remove(toolStats.toolStatsKeys.getOriginType());
+                if (origin != null) {
+                    container.remove(toolStats.toolStatsKeys.getOriginType());
+                }
             }
-
-            finalItem.setItemMeta(meta);
-        }
-
+        });
+        setLore(finalItem, lore);
         return finalItem;
     }
+
+    /**
+     * A stat that is about to be written, with the lines to swap in the lore.
+     * The lines are null with lazy lore, since the lore is rendered later.
+     */
+    private record StatChange(StatType stat, Number oldValue, Number newValue, Component oldLine, Component newLine) {
+    }
 }
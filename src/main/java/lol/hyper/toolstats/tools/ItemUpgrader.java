@@ -0,0 +1,107 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import lol.hyper.toolstats.ToolStats;
+import net.kyori.adventure.text.Component;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.List;
+
+/**
+ * Brings the data on tracked items up to date, once per item.
+ * Each item stores the version of its data, so items that are already
+ * up-to-date skip every compatibility check.
+ */
+public class ItemUpgrader {
+
+    // bump this and add a step to upgrade() when items need to change
+    public static final int DATA_VERSION = 1;
+
+    private final ToolStats toolStats;
+
+    public ItemUpgrader(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Check if an item's data is older than the current version.
+     *
+     * @param container The item's container.
+     * @return True if the item should be upgraded.
+     */
+    public boolean needsUpgrade(PersistentDataContainerView container) {
+        Integer version = container.get(toolStats.toolStatsKeys.getDataVersion(), PersistentDataType.INTEGER);
+        return version == null || version < DATA_VERSION;
+    }
+
+    /**
+     * Upgrade an item in place, if it has stats and is out of date.
+     *
+     * @param item The item.
+     * @return True if the item was upgraded.
+     */
+    public boolean upgrade(ItemStack item) {
+        if (item == null || item.isEmpty()) {
+            return false;
+        }
+        PersistentDataContainerView view = item.getPersistentDataContainer();
+        if (!needsUpgrade(view) || !toolStats.statStorage.hasAny(view)) {
+            return false;
+        }
+        List<Component> lore = toolStats.itemLore.getLore(item);
+        item.editPersistentDataContainer(container -> upgrade(container, lore));
+        toolStats.itemLore.setLore(item, lore);
+        return true;
+    }
+
+    /**
+     * Run every upgrade step the item is missing.
+     *
+     * @param container The item's container.
+     * @param lore      The item's lore, which is updated.
+     */
+    public void upgrade(PersistentDataContainer container, List<Component> lore) {
+        NamespacedKey versionKey = toolStats.toolStatsKeys.getDataVersion();
+        Integer version = container.get(versionKey, PersistentDataType.INTEGER);
+        if (version == null) {
+            version = 0;
+        }
+
+        if (version < 1) {
+            // tokens move to a mask, and every stat gets its token,
+            // so the stats still track if the token system is turned on
+            long tokens = toolStats.itemChecker.getTokens(container) | toolStats.itemChecker.addTokensToExisting(container);
+            toolStats.itemChecker.setTokens(container, tokens);
+
+            // remove the flight time format from before config version 11
+            if (toolStats.settings.oldFlightTimeFormat) {
+                Number flightTime = toolStats.statStorage.read(container, StatType.FLIGHT_TIME);
+                if (flightTime != null) {
+                    toolStats.itemLore.removeOldFlightTime(lore, flightTime);
+                }
+            }
+        }
+
+        container.set(versionKey, PersistentDataType.INTEGER, DATA_VERSION);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.config.Settings;
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Registers only the listeners the current config needs.
+ * Listeners for features that are turned off are unregistered, so their events
+ * are never sent to us. Call {@link #update(Settings)} after the config changes.
+ */
+public class ListenerManager {
+
+    private final ToolStats toolStats;
+    private final List<Feature> features = new ArrayList<>();
+
+    public ListenerManager(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Add a listener that is always registered.
+     *
+     * @param listener The listener.
+     */
+    public void add(Listener listener) {
+        add(listener, _ -> true, null);
+    }
+
+    /**
+     * Add a listener that is only registered when a feature needs it.
+     *
+     * @param listener The listener.
+     * @param needed   If the listener is needed with the given settings.
+     */
+    public void add(Listener listener, Predicate<Settings> needed) {
+        add(listener, needed, null);
+    }
+
+    /**
+     * Add a listener that is only registered when a feature needs it.
+     *
+     * @param listener     The listener.
+     * @param needed       If the listener is needed with the given settings.
+     * @param unregistered Runs after the listener is unregistered, to clean up anything it was tracking. Can be null.
+     */
+    public void add(Listener listener, Predicate<Settings> needed, Runnable unregistered) {
+        features.add(new Feature(listener, needed, unregistered));
+    }
+
+    /**
+     * Register and unregister listeners to match the settings.
+     *
+     * @param settings The settings to match.
+     */
+    public void update(Settings settings) {
+        int registered = 0;
+        for (Feature feature : features) {
+            boolean needed = feature.needed.test(settings);
+            if (needed && !feature.registered) {
+                Bukkit.getServer().getPluginManager().registerEvents(feature.listener, toolStats);
+                feature.registered = true;
+            } else if (!needed && feature.registered) {
+                HandlerList.unregisterAll(feature.listener);
+                feature.registered = false;
+                if (feature.unregistered != null) {
+                    feature.unregistered.run();
+                }
+            }
+            if (feature.registered) {
+                registered++;
+            }
+        }
+        toolStats.logger.info("Registered {} of {} listeners for the enabled features.", registered, features.size());
+    }
+
+    private static final class Feature {
+        private final Listener listener;
+        private final Predicate<Settings> needed;
+        private final Runnable unregistered;
+        private boolean registered;
+
+        private Feature(Listener listener, Predicate<Settings> needed, Runnable unregistered) {
+            this.listener = listener;
+            this.needed = needed;
+            this.unregistered = unregistered;
+        }
+    }
+}
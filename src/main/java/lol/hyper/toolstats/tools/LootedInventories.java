@@ -0,0 +1,135 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.Location;
+import org.bukkit.inventory.Inventory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Inventories with freshly generated loot, and where they are, until a player closes them.
+ * Inventories that are never closed through us (unloaded chunks, double chests, removed minecarts)
+ * would otherwise be held forever, so entries expire and the oldest are dropped past a hard limit.
+ */
+public class LootedInventories {
+
+    // how long a player can keep a looted inventory open and still get looted items
+    private static final long TTL = 10 * 60 * 1000;
+    private static final int CAPACITY = 1024;
+
+    private final ToolStats toolStats;
+    // oldest first, and every entry has the same ttl, so this is also expiry order
+    private final Map<Inventory, Tracked> inventories = new LinkedHashMap<>();
+    private long evictions = 0;
+    private long expirations = 0;
+
+    public LootedInventories(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Track an inventory that just had loot generated.
+     *
+     * @param inventory The inventory.
+     * @param location  Where the inventory is.
+     */
+    public synchronized void put(Inventory inventory, Location location) {
+        long now = System.currentTimeMillis();
+        expire(now);
+        // put it at the end again
+        inventories.remove(inventory);
+        inventories.put(inventory, new Tracked(location, now + TTL));
+        if (inventories.size() > CAPACITY) {
+            Iterator<Inventory> iterator = inventories.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+            if (evictions++ == 0) {
+                toolStats.logger.warn("Tracking more than {} looted inventories, dropping the oldest ones.", CAPACITY);
+            }
+        }
+    }
+
+    /**
+     * Check if an inventory is being tracked.
+     *
+     * @param inventory The inventory.
+     * @return True if it had loot generated and has not been closed yet.
+     */
+    public synchronized boolean contains(Inventory inventory) {
+        expire(System.currentTimeMillis());
+        return inventories.containsKey(inventory);
+    }
+
+    /**
+     * Stop tracking an inventory.
+     *
+     * @param inventory The inventory.
+     * @return Where the inventory is, null if it was not tracked.
+     */
+    public synchronized Location remove(Inventory inventory) {
+        expire(System.currentTimeMillis());
+        Tracked tracked = inventories.remove(inventory);
+        return tracked == null ? null : tracked.location;
+    }
+
+    /**
+     * Check if nothing is tracked, so listeners can return early.
+     *
+     * @return True if there are no inventories.
+     */
+    public synchronized boolean isEmpty() {
+        expire(System.currentTimeMillis());
+        return inventories.isEmpty();
+    }
+
+    public synchronized int size() {
+        return inventories.size();
+    }
+
+    /**
+     * How many inventories were dropped because there were too many.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * How many inventories were dropped because they were open too long.
+     */
+    public synchronized long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * Remove the entries that expired, they are all at the start.
+     */
+    private void expire(long now) {
+        Iterator<Tracked> iterator = inventories.values().iterator();
+        while (iterator.hasNext() && iterator.next().expires <= now) {
+            iterator.remove();
+            expirations++;
+        }
+    }
+
+    private record Tracked(Location location, long expires) {
+    }
+}
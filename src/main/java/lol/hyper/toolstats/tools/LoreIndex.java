@@ -0,0 +1,131 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Arrays;
+
+/**
+ * Where each stat's line is in an item's lore, stored on the item so a line
+ * can be updated by its index instead of searching the lore for it.
+ * The size of the lore is stored with it. If the size changed, something else
+ * edited the lore, and none of the offsets are used until they are found again.
+ * Offsets are stored by each stat's bit, so adding stats never moves them.
+ */
+public final class LoreIndex {
+
+    private static final int UNKNOWN = -1;
+
+    // offset of each stat's line, indexed by bit
+    private final int[] offsets;
+    private int loreSize;
+
+    private LoreIndex(int[] offsets, int loreSize) {
+        this.offsets = offsets;
+        this.loreSize = loreSize;
+    }
+
+    /**
+     * Read the index from an item.
+     *
+     * @param container The item's container.
+     * @param key       The key the index is stored under.
+     * @param loreSize  How many lines the item has right now.
+     * @return The index. Offsets are unknown if there is none, or it is out of date.
+     */
+    public static LoreIndex read(PersistentDataContainer container, NamespacedKey key, int loreSize) {
+        int[] offsets = new int[StatType.bitCount()];
+        Arrays.fill(offsets, UNKNOWN);
+        int[] stored = container.get(key, PersistentDataType.INTEGER_ARRAY);
+        // the first value is the lore size when this was saved
+        if (stored != null && stored.length > 0 && stored[0] == loreSize) {
+            for (int i = 1; i < stored.length && i <= offsets.length; i++) {
+                int offset = stored[i];
+                if (offset >= 0 && offset < loreSize) {
+                    offsets[i - 1] = offset;
+                }
+            }
+        }
+        return new LoreIndex(offsets, loreSize);
+    }
+
+    /**
+     * Save the index to an item.
+     *
+     * @param container The item's container.
+     * @param key       The key to store the index under.
+     */
+    public void write(PersistentDataContainer container, NamespacedKey key) {
+        int[] stored = new int[offsets.length + 1];
+        stored[0] = loreSize;
+        System.arraycopy(offsets, 0, stored, 1, offsets.length);
+        container.set(key, PersistentDataType.INTEGER_ARRAY, stored);
+    }
+
+    /**
+     * Get where a stat's line is.
+     *
+     * @param stat The stat.
+     * @return The line's index, -1 if it's not known.
+     */
+    public int get(StatType stat) {
+        return offsets[stat.getBit()];
+    }
+
+    /**
+     * Record where a stat's line is.
+     *
+     * @param stat   The stat.
+     * @param offset The line's index.
+     */
+    public void set(StatType stat, int offset) {
+        // two stats can't share a line
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] == offset) {
+                offsets[i] = UNKNOWN;
+            }
+        }
+        offsets[stat.getBit()] = offset;
+    }
+
+    /**
+     * Record that a line was added to the end of the lore.
+     */
+    public void lineAdded() {
+        loreSize++;
+    }
+
+    /**
+     * Record that a line was removed, moving up every line after it.
+     *
+     * @param offset The index of the removed line.
+     */
+    public void lineRemoved(int offset) {
+        loreSize--;
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] == offset) {
+                offsets[i] = UNKNOWN;
+            } else if (offsets[i] > offset) {
+                offsets[i]--;
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package lol.hyper.toolstats.tools;
 
 import lol.hyper.toolstats.ToolStats;
+import org.bukkit.configuration.ConfigurationSection;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
@@ -27,9 +28,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 
 public class NumberFormat {
 
@@ -41,39 +40,24 @@ public class NumberFormat {
      * Utility class to format different numbers
      *
      * @param toolStats Plugin instance.
+     * @param config    The config to read the formats from.
      */
-    public NumberFormat(ToolStats toolStats) {
-
-        String dateFormat = toolStats.config.getString("date-format");
-        String decimalSeparator = toolStats.config.getString("number-formats.decimal-separator");
-        String commaSeparator = toolStats.config.getString("number-formats.comma-separator");
-        String commaFormat = toolStats.config.getString("number-formats.comma-format");
-        String decimalFormat = toolStats.config.getString("number-formats.decimal-format");
-
-        // if these config values are missing, use the default ones
-        if (dateFormat == null) {
-            dateFormat = "M/dd/yyyy";
-            toolStats.logger.warn("date-format is missing! Using default American English format.");
-        }
+    public NumberFormat(ToolStats toolStats, ConfigurationSection config) {
+
+        // missing values are reported and filled in when the config is loaded
+        String dateFormat = config.getString("date-format", "M/dd/yyyy");
+        String decimalSeparator = config.getString("number-formats.decimal-separator", ".");
+        String commaSeparator = config.getString("number-formats.comma-separator", ",");
+        String commaFormat = config.getString("number-formats.comma-format", "#,###");
+        String decimalFormat = config.getString("number-formats.decimal-format", "#,##0.00");
 
-        if (decimalSeparator == null) {
+        if (decimalSeparator.isEmpty()) {
+            toolStats.logger.warn("number-formats.decimal-separator is empty! Using default \".\" instead.");
             decimalSeparator = ".";
-            toolStats.logger.warn("number-formats.decimal-separator is missing! Using default \".\" instead.");
         }
-
-        if (commaSeparator == null) {
+        if (commaSeparator.isEmpty()) {
+            toolStats.logger.warn("number-formats.comma-separator is empty! Using default \",\" instead.");
             commaSeparator = ",";
-            toolStats.logger.warn("number-formats.comma-separator is missing! Using default \",\" instead.");
-        }
-
-        if (commaFormat == null) {
-            commaFormat = "#,###";
-            toolStats.logger.warn("number-formats.comma-format is missing! Using default #,### instead.");
-        }
-
-        if (decimalFormat == null) {
-            decimalFormat = "#,##0.00";
-            toolStats.logger.warn("number-formats.comma-separator is missing! Using default #,###.00 instead.");
         }
 
         // test the date format
@@ -144,62 +128,6 @@ public class NumberFormat {
         return DATE_FORMAT.format(date);
     }
 
-    /**
-     * Returns a human-readable form of time in milliseconds.
-     * E.g. given 3752348000L outputs 1 year, 5 months, 3 days, 14 hours, 12 minutes, 28 seconds.
-     *
-     * @param time The time in ms.
-     * @return Map with units as keys and time value, e.g. "years" (key) -> 1 (value)
-     */
-    public Map<String, String> formatTime(Long time) {
-        final int SECONDS_PER_MINUTE = 60;
-        final int MINUTES_PER_HOUR = 60;
-        final int HOURS_PER_DAY = 24;
-        final int DAYS_PER_MONTH = 30;  // Approximation
-        final int DAYS_PER_YEAR = 365;  // Approximation
-
-        long totalSeconds = time / 1000;
-
-        Map<String, String> timeUnits = new HashMap<>();
-
-        long years = totalSeconds / (DAYS_PER_YEAR * HOURS_PER_DAY * MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-        if (years > 0) {
-            timeUnits.put("years", Long.toString(years));
-        }
-        totalSeconds %= (DAYS_PER_YEAR * HOURS_PER_DAY * MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-
-        long months = totalSeconds / (DAYS_PER_MONTH * HOURS_PER_DAY * MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-        if (months > 0) {
-            timeUnits.put("months", Long.toString(months));
-        }
-        totalSeconds %= (DAYS_PER_MONTH * HOURS_PER_DAY * MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-
-        long days = totalSeconds / (HOURS_PER_DAY * MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-        if (days > 0) {
-            timeUnits.put("days", Long.toString(days));
-        }
-        totalSeconds %= (HOURS_PER_DAY * MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-
-        long hours = totalSeconds / (MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-        if (hours > 0) {
-            timeUnits.put("hours", Long.toString(hours));
-        }
-        totalSeconds %= (MINUTES_PER_HOUR * SECONDS_PER_MINUTE);
-
-        long minutes = totalSeconds / SECONDS_PER_MINUTE;
-        if (minutes > 0) {
-            timeUnits.put("minutes", Long.toString(minutes));
-        }
-        totalSeconds %= SECONDS_PER_MINUTE;
-
-        long seconds = totalSeconds;
-        if (seconds > 0 || timeUnits.isEmpty()) {  // Always include seconds if everything else is zero
-            timeUnits.put("seconds", Long.toString(seconds));
-        }
-
-        return timeUnits;
-    }
-
     public Date normalizeTime(Long time) {
         Instant instant = Instant.ofEpochMilli(time);
         ZoneId zone = ZoneId.systemDefault();
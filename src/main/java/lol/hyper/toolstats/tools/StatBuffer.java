@@ -0,0 +1,371 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import lol.hyper.hyperlib.datatypes.UUIDDataType;
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saves up stat changes for the items players are holding or wearing, and writes them
+ * to the items every few ticks instead of on every event.
+ * Changes are kept by the slot the item is in, along with an id saved on the item,
+ * so they are never written to a different item. The id is removed when the changes
+ * are written, so it only stays on an item while it has changes saved up.
+ */
+public class StatBuffer {
+
+    private static final EquipmentSlot[] ARMOR_SLOTS = {EquipmentSlot.FEET, EquipmentSlot.LEGS, EquipmentSlot.CHEST, EquipmentSlot.HEAD};
+    private static final UUIDDataType ITEM_ID_TYPE = new UUIDDataType();
+
+    private final ToolStats toolStats;
+    private final Map<UUID, PlayerChanges> buffers = new ConcurrentHashMap<>();
+
+    public StatBuffer(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Add to a stat on an item a player is holding or wearing.
+     * If the buffer is off, the item is updated right away.
+     *
+     * @param player The player.
+     * @param slot   The slot the item is in.
+     * @param item   The item in that slot.
+     * @param stat   The stat to update.
+     * @param add    How much to add.
+     */
+    public void add(Player player, EquipmentSlot slot, ItemStack item, StatType stat, Number add) {
+        add(player, slot, item, Map.of(stat, add));
+    }
+
+    /**
+     * Add to several stats on an item a player is holding or wearing.
+     * If the buffer is off, the item is updated right away.
+     *
+     * @param player  The player.
+     * @param slot    The slot the item is in.
+     * @param item    The item in that slot.
+     * @param changes How much to add to each stat.
+     */
+    public void add(Player player, EquipmentSlot slot, ItemStack item, Map<StatType, Number> changes) {
+        if (!toolStats.settings.statBuffer) {
+            toolStats.itemLore.updateStats(item, changes);
+            return;
+        }
+        buffer(player, slot, item, changes);
+    }
+
+    /**
+     * Save up stat changes for an item, whether the buffer is on or not.
+     */
+    private void buffer(Player player, EquipmentSlot slot, ItemStack item, Map<StatType, Number> changes) {
+        if (item.isEmpty() || changes.isEmpty()) {
+            return;
+        }
+
+        UUID itemId = getItemId(item);
+        int inventorySlot = getInventorySlot(player.getInventory(), slot);
+        PlayerChanges playerChanges = buffers.computeIfAbsent(player.getUniqueId(), _ -> new PlayerChanges());
+        boolean schedule;
+        synchronized (playerChanges) {
+            SlotChanges slotChanges = playerChanges.getSlot(inventorySlot, itemId);
+            for (Map.Entry<StatType, Number> entry : changes.entrySet()) {
+                slotChanges.add(entry.getKey(), entry.getValue().doubleValue());
+            }
+            schedule = playerChanges.schedule();
+        }
+        if (schedule) {
+            scheduleFlush(player);
+        }
+    }
+
+    /**
+     * Add to a stat on every armor piece a player is wearing, such as damage taken.
+     * This can happen every tick while burning or poisoned, so it only adds to a number
+     * per armor slot until the buffer is flushed. This is always saved up, even if the buffer is off.
+     *
+     * @param player The player wearing the armor.
+     * @param stat   The stat to update.
+     * @param add    How much to add.
+     */
+    public void addArmor(Player player, StatType stat, double add) {
+        PlayerInventory inventory = player.getInventory();
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
+            ItemStack armorPiece = inventory.getItem(slot);
+            if (toolStats.itemChecker.isArmor(armorPiece.getType())) {
+                buffer(player, slot, armorPiece, Map.of(stat, add));
+            }
+        }
+    }
+
+    private void scheduleFlush(Player player) {
+        player.getScheduler().runDelayed(toolStats, _ -> flush(player), null, toolStats.settings.statBufferFlushInterval);
+    }
+
+    /**
+     * Write a player's saved up stats to their items.
+     *
+     * @param player The player.
+     */
+    public void flush(Player player) {
+        flush(player, List.of());
+    }
+
+    /**
+     * Write a player's saved up stats to their items.
+     * Copies of the items are updated too, such as items that were just dropped.
+     * Stats for an item that is no longer in their inventory, and has no copy, are dropped.
+     *
+     * @param player The player.
+     * @param copies Copies of the player's items, which are edited in place.
+     * @return The copies that were changed.
+     */
+    public List<ItemStack> flush(Player player, List<ItemStack> copies) {
+        PlayerChanges playerChanges = buffers.remove(player.getUniqueId());
+        if (playerChanges == null) {
+            return List.of();
+        }
+
+        List<ItemStack> candidates = new ArrayList<>(copies);
+        List<ItemStack> changed = new ArrayList<>();
+        PlayerInventory inventory = player.getInventory();
+        synchronized (playerChanges) {
+            for (Map.Entry<Integer, SlotChanges> entry : playerChanges.slots.entrySet()) {
+                SlotChanges slotChanges = entry.getValue();
+                Map<StatType, Number> changes = slotChanges.toMap();
+                // the item may have left the slot, such as being dropped
+                ItemStack item = findItem(inventory, entry.getKey(), slotChanges.itemId);
+                if (item != null) {
+                    write(item, changes);
+                }
+                ItemStack copy = takeCopy(candidates, slotChanges.itemId);
+                if (copy != null) {
+                    write(copy, changes);
+                    changed.add(copy);
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Write the saved up stats for an armor slot if a different piece is in it now,
+     * such as armor taken off by a dispenser, a command or another plugin.
+     * The old piece is found by its id if it's still in the player's inventory.
+     *
+     * @param player  The player.
+     * @param slot    The armor slot.
+     * @param newItem What is in the slot now.
+     */
+    public void armorChanged(Player player, EquipmentSlot slot, ItemStack newItem) {
+        PlayerChanges playerChanges = buffers.get(player.getUniqueId());
+        if (playerChanges == null) {
+            return;
+        }
+        PlayerInventory inventory = player.getInventory();
+        int inventorySlot = getInventorySlot(inventory, slot);
+        SlotChanges slotChanges;
+        synchronized (playerChanges) {
+            slotChanges = playerChanges.slots.get(inventorySlot);
+            // taking durability damage or having stats written also changes the piece, but it's the same one
+            if (slotChanges == null || (!newItem.isEmpty() && slotChanges.itemId.equals(readItemId(newItem)))) {
+                return;
+            }
+            playerChanges.slots.remove(inventorySlot);
+        }
+        ItemStack item = findItem(inventory, inventorySlot, slotChanges.itemId);
+        if (item != null) {
+            write(item, slotChanges.toMap());
+        }
+    }
+
+    /**
+     * Write every online player's saved up stats to their items.
+     */
+    public void flushAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            flush(player);
+        }
+    }
+
+    /**
+     * Write saved up stats to an item, and remove its buffer id.
+     *
+     * @param item    The item, which is edited in place.
+     * @param changes How much to add to each stat.
+     */
+    private void write(ItemStack item, Map<StatType, Number> changes) {
+        toolStats.itemLore.updateStats(item, changes);
+        item.editPersistentDataContainer(container -> container.remove(toolStats.toolStatsKeys.getBufferId()));
+    }
+
+    /**
+     * Find an item in a player's inventory by its buffer id, checking the slot it was in first.
+     *
+     * @param inventory The player's inventory.
+     * @param slot      The slot the item was in.
+     * @param itemId    The item's id.
+     * @return The item, null if it's not in the inventory anymore.
+     */
+    private ItemStack findItem(PlayerInventory inventory, int slot, UUID itemId) {
+        ItemStack item = inventory.getItem(slot);
+        if (item != null && itemId.equals(readItemId(item))) {
+            return item;
+        }
+        // it may have been moved without us seeing it
+        for (ItemStack other : inventory.getContents()) {
+            if (other != null && !other.isEmpty() && itemId.equals(readItemId(other))) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find and remove the copy of an item from a list.
+     *
+     * @param candidates The copies to search.
+     * @param itemId     The id of the item the copy was made from.
+     * @return The copy, null if there is none.
+     */
+    private ItemStack takeCopy(List<ItemStack> candidates, UUID itemId) {
+        Iterator<ItemStack> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            ItemStack candidate = iterator.next();
+            if (candidate != null && !candidate.isEmpty() && itemId.equals(readItemId(candidate))) {
+                iterator.remove();
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get an item's buffer id, giving it one if it doesn't have one yet.
+     * This only writes to the item for its first change since it was last flushed.
+     *
+     * @param item The item, which is edited in place.
+     * @return The item's id.
+     */
+    private UUID getItemId(ItemStack item) {
+        UUID itemId = readItemId(item);
+        if (itemId == null) {
+            UUID newId = UUID.randomUUID();
+            item.editPersistentDataContainer(container -> container.set(toolStats.toolStatsKeys.getBufferId(), ITEM_ID_TYPE, newId));
+            itemId = newId;
+        }
+        return itemId;
+    }
+
+    private UUID readItemId(ItemStack item) {
+        return item.getPersistentDataContainer().get(toolStats.toolStatsKeys.getBufferId(), ITEM_ID_TYPE);
+    }
+
+    /**
+     * Get the inventory slot an equipment slot is in.
+     */
+    private static int getInventorySlot(PlayerInventory inventory, EquipmentSlot slot) {
+        return switch (slot) {
+            case HAND -> inventory.getHeldItemSlot();
+            case FEET -> 36;
+            case LEGS -> 37;
+            case CHEST -> 38;
+            case HEAD -> 39;
+            case OFF_HAND -> 40;
+            default -> throw new IllegalArgumentException("Players don't have a " + slot + " slot");
+        };
+    }
+
+    /**
+     * Everything saved up for one player, keyed by inventory slot.
+     */
+    private static final class PlayerChanges {
+        private final Map<Integer, SlotChanges> slots = new HashMap<>();
+        private boolean scheduled;
+
+        /**
+         * Get the changes for a slot, starting over if it's a different item.
+         */
+        private SlotChanges getSlot(int slot, UUID itemId) {
+            SlotChanges slotChanges = slots.get(slot);
+            // if the item in this slot was swapped without us seeing it, the old item is gone
+            if (slotChanges == null || !slotChanges.itemId.equals(itemId)) {
+                slotChanges = new SlotChanges(itemId);
+                slots.put(slot, slotChanges);
+            }
+            return slotChanges;
+        }
+
+        /**
+         * Mark a flush as scheduled.
+         *
+         * @return True if one was not scheduled already.
+         */
+        private boolean schedule() {
+            boolean schedule = !scheduled;
+            scheduled = true;
+            return schedule;
+        }
+    }
+
+    /**
+     * Everything saved up for the item in one slot.
+     * Totals are kept as doubles by stat ordinal so adding never boxes,
+     * every stat value fits in a double without losing precision.
+     */
+    private static final class SlotChanges {
+        private static final StatType[] STATS = StatType.values();
+
+        private final UUID itemId;
+        private final double[] totals = new double[STATS.length];
+        private final boolean[] changed = new boolean[STATS.length];
+
+        private SlotChanges(UUID itemId) {
+            this.itemId = itemId;
+        }
+
+        private void add(StatType stat, double add) {
+            totals[stat.ordinal()] += add;
+            changed[stat.ordinal()] = true;
+        }
+
+        private Map<StatType, Number> toMap() {
+            Map<StatType, Number> changes = new EnumMap<>(StatType.class);
+            for (StatType stat : STATS) {
+                if (!changed[stat.ordinal()]) {
+                    continue;
+                }
+                double total = totals[stat.ordinal()];
+                changes.put(stat, switch (stat.getValueType()) {
+                    case INTEGER -> (int) total;
+                    case DOUBLE -> total;
+                    case DURATION -> (long) total;
+                });
+            }
+            return changes;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Packs every stat on an item into one small byte array.
+ * The record starts with a version, then a bitmask of which stats are set,
+ * then each set stat as a varint. Doubles are stored as their exact 8 bytes,
+ * since damage is fractional and fixed-point would round it on every write.
+ * Stats use their bit from {@link StatType#getBit()}.
+ */
+public final class StatRecord {
+
+    private static final byte VERSION = 1;
+
+    private StatRecord() {
+    }
+
+    /**
+     * Read the stats from a record.
+     *
+     * @param record The record.
+     * @return The stats in the record, null if the record is not valid.
+     */
+    public static Map<StatType, Number> decode(byte[] record) {
+        if (record.length == 0 || record[0] != VERSION) {
+            return null;
+        }
+        Map<StatType, Number> stats = new EnumMap<>(StatType.class);
+        int[] position = {1};
+        try {
+            long mask = readVarLong(record, position);
+            for (int bit = 0; bit < StatType.bitCount(); bit++) {
+                if ((mask & (1L << bit)) == 0) {
+                    continue;
+                }
+                StatType stat = StatType.fromBit(bit);
+                stats.put(stat, switch (stat.getValueType()) {
+                    case INTEGER -> (int) zigZagDecode(readVarLong(record, position));
+                    case DOUBLE -> Double.longBitsToDouble(readLong(record, position));
+                    case DURATION -> zigZagDecode(readVarLong(record, position));
+                });
+            }
+        } catch (ArrayIndexOutOfBoundsException exception) {
+            return null;
+        }
+        return stats;
+    }
+
+    /**
+     * Pack stats into a record.
+     *
+     * @param stats The stats.
+     * @return The record.
+     */
+    public static byte[] encode(Map<StatType, Number> stats) {
+        // version, mask, and at most 10 bytes per stat
+        byte[] buffer = new byte[1 + 10 + stats.size() * 10];
+        int[] position = {0};
+        buffer[position[0]++] = VERSION;
+
+        long mask = 0;
+        for (StatType stat : stats.keySet()) {
+            mask |= stat.getMask();
+        }
+        writeVarLong(buffer, position, mask);
+        for (int bit = 0; bit < StatType.bitCount(); bit++) {
+            StatType stat = StatType.fromBit(bit);
+            Number value = stats.get(stat);
+            if (value == null) {
+                continue;
+            }
+            switch (stat.getValueType()) {
+                case INTEGER -> writeVarLong(buffer, position, zigZagEncode(value.intValue()));
+                case DOUBLE -> writeLong(buffer, position, Double.doubleToRawLongBits(value.doubleValue()));
+                case DURATION -> writeVarLong(buffer, position, zigZagEncode(value.longValue()));
+            }
+        }
+
+        byte[] record = new byte[position[0]];
+        System.arraycopy(buffer, 0, record, 0, record.length);
+        return record;
+    }
+
+    private static void writeLong(byte[] buffer, int[] position, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position[0]++] = (byte) (value >>> shift);
+        }
+    }
+
+    private static long readLong(byte[] buffer, int[] position) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position[0]++] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeVarLong(byte[] buffer, int[] position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position[0]++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position[0]++] = (byte) value;
+    }
+
+    private static long readVarLong(byte[] buffer, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer[position[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0 && shift < 64);
+        return value;
+    }
+
+    // zigzag keeps small negative values small, such as a stat that was edited below zero
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
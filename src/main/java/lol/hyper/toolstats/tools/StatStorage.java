@@ -0,0 +1,232 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reads and writes stats on items. Stats are either one key per stat, or packed
+ * into a single {@link StatRecord} when compact-stats is on.
+ * Both are always read, so items move over to the current format as they are written.
+ * Only stat values go in the record. Tokens, origin, owner and hash keep their own keys,
+ * so checking them never has to unpack the stats. The lore index, data version, shown stats
+ * and buffer id are bookkeeping that is read and written apart from the stats.
+ */
+public class StatStorage {
+
+    private final ToolStats toolStats;
+
+    public StatStorage(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Read a stat from an item's container.
+     *
+     * @param container The item's container.
+     * @param stat      The stat.
+     * @return The value, null if it's not set.
+     */
+    public Number read(PersistentDataContainerView container, StatType stat) {
+        Map<StatType, Number> record = readRecord(container);
+        if (record != null) {
+            Number value = record.get(stat);
+            if (value != null) {
+                return value;
+            }
+        }
+        return stat.read(container, toolStats.toolStatsKeys);
+    }
+
+    /**
+     * Read every stat from an item's container.
+     *
+     * @param container The item's container.
+     * @return The stats that are set.
+     */
+    public Map<StatType, Number> readAll(PersistentDataContainerView container) {
+        Map<StatType, Number> stats = new EnumMap<>(StatType.class);
+        Map<StatType, Number> record = readRecord(container);
+        if (record != null) {
+            stats.putAll(record);
+        }
+        for (StatType stat : StatType.values()) {
+            if (!stats.containsKey(stat)) {
+                Number value = stat.read(container, toolStats.toolStatsKeys);
+                if (value != null) {
+                    stats.put(stat, value);
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Check if an item's container has a stat.
+     *
+     * @param container The item's container.
+     * @param stat      The stat.
+     * @return True if the stat is set.
+     */
+    public boolean has(PersistentDataContainerView container, StatType stat) {
+        return read(container, stat) != null;
+    }
+
+    /**
+     * Check if an item's container has any stats.
+     *
+     * @param container The item's container.
+     * @return True if any stat is set.
+     */
+    public boolean hasAny(PersistentDataContainerView container) {
+        if (container.has(toolStats.toolStatsKeys.getStatRecord())) {
+            return true;
+        }
+        for (StatType stat : StatType.values()) {
+            if (container.has(stat.getKey(toolStats.toolStatsKeys))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write a stat to an item's container, in the format set in the config.
+     *
+     * @param container The item's container.
+     * @param stat      The stat.
+     * @param value     The value.
+     */
+    public void write(PersistentDataContainer container, StatType stat, Number value) {
+        writeAll(container, Map.of(stat, value));
+    }
+
+    /**
+     * Write several stats to an item's container, in the format set in the config.
+     * The record is only read and written once, no matter how many stats change.
+     *
+     * @param container The item's container.
+     * @param values    The value of each stat.
+     */
+    public void writeAll(PersistentDataContainer container, Map<StatType, Number> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        NamespacedKey recordKey = toolStats.toolStatsKeys.getStatRecord();
+        Map<StatType, Number> record = readRecord(container);
+        if (!toolStats.settings.compactStats) {
+            for (Map.Entry<StatType, Number> entry : values.entrySet()) {
+                entry.getKey().write(container, toolStats.toolStatsKeys, entry.getValue());
+            }
+            // don't leave old values in the record
+            if (record != null && record.keySet().removeAll(values.keySet())) {
+                writeRecord(container, record);
+            }
+            return;
+        }
+
+        if (record == null) {
+            // first time this item is written compact, move every stat into the record
+            record = readAll(container);
+            for (StatType other : StatType.values()) {
+                container.remove(other.getKey(toolStats.toolStatsKeys));
+            }
+        } else {
+            for (StatType stat : values.keySet()) {
+                container.remove(stat.getKey(toolStats.toolStatsKeys));
+            }
+        }
+        record.putAll(values);
+        container.set(recordKey, PersistentDataType.BYTE_ARRAY, StatRecord.encode(record));
+    }
+
+    /**
+     * Write several stats to an item's container, when its stats were already read.
+     * In compact mode this skips decoding the record again.
+     *
+     * @param container The item's container.
+     * @param stats     Every stat on the item, from {@link #readAll(PersistentDataContainerView)}.
+     * @param values    The new value of each stat.
+     */
+    public void writeAll(PersistentDataContainer container, Map<StatType, Number> stats, Map<StatType, Number> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (!toolStats.settings.compactStats) {
+            writeAll(container, values);
+            return;
+        }
+
+        Map<StatType, Number> record = new EnumMap<>(StatType.class);
+        record.putAll(stats);
+        record.putAll(values);
+        // every stat is in the record now, so drop any that are still stored on their own
+        for (StatType stat : record.keySet()) {
+            container.remove(stat.getKey(toolStats.toolStatsKeys));
+        }
+        container.set(toolStats.toolStatsKeys.getStatRecord(), PersistentDataType.BYTE_ARRAY, StatRecord.encode(record));
+    }
+
+    /**
+     * Remove a stat from an item's container, in both formats.
+     *
+     * @param container The item's container.
+     * @param stat      The stat.
+     */
+    public void remove(PersistentDataContainer container, StatType stat) {
+        container.remove(stat.getKey(toolStats.toolStatsKeys));
+        Map<StatType, Number> record = readRecord(container);
+        if (record != null && record.remove(stat) != null) {
+            writeRecord(container, record);
+        }
+    }
+
+    /**
+     * Read the record from a container.
+     *
+     * @param container The container.
+     * @return The stats in the record, null if there is no valid record.
+     */
+    private Map<StatType, Number> readRecord(PersistentDataContainerView container) {
+        NamespacedKey recordKey = toolStats.toolStatsKeys.getStatRecord();
+        if (!container.has(recordKey, PersistentDataType.BYTE_ARRAY)) {
+            return null;
+        }
+        byte[] bytes = container.get(recordKey, PersistentDataType.BYTE_ARRAY);
+        return bytes == null ? null : StatRecord.decode(bytes);
+    }
+
+    /**
+     * Write a record to a container, removing the key if it's empty.
+     */
+    private void writeRecord(PersistentDataContainer container, Map<StatType, Number> record) {
+        NamespacedKey recordKey = toolStats.toolStatsKeys.getStatRecord();
+        if (record.isEmpty()) {
+            container.remove(recordKey);
+        } else {
+            container.set(recordKey, PersistentDataType.BYTE_ARRAY, StatRecord.encode(record));
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import lol.hyper.toolstats.tools.config.ItemToggle;
+import lol.hyper.toolstats.tools.config.Settings;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Every stat we track on items, and everything needed to update one.
+ * The order here is the order stats are shown in when lore is rebuilt.
+ */
+public enum StatType {
+
+    FLIGHT_TIME(ToolStatsKeys::getFlightTime, ValueType.DURATION, "flight-time", null, "flight-time", (settings, _) -> settings.flightTime),
+    PLAYER_KILLS(ToolStatsKeys::getPlayerKills, ValueType.INTEGER, "kills.player", "{kills}", "player-kills", toggle(ItemToggle.PLAYER_KILLS)),
+    MOB_KILLS(ToolStatsKeys::getMobKills, ValueType.INTEGER, "kills.mob", "{kills}", "mob-kills", toggle(ItemToggle.MOB_KILLS)),
+    CROPS_HARVESTED(ToolStatsKeys::getCropsHarvested, ValueType.INTEGER, "crops-harvested", "{crops}", "crops-mined", (settings, _) -> settings.cropsHarvested),
+    BLOCKS_MINED(ToolStatsKeys::getBlocksMined, ValueType.INTEGER, "blocks-mined", "{blocks}", "blocks-mined", toggle(ItemToggle.BLOCKS_MINED)),
+    FISH_CAUGHT(ToolStatsKeys::getFishCaught, ValueType.INTEGER, "fished.fish-caught", "{fish}", "fish-caught", (settings, _) -> settings.fishCaught),
+    SHEEP_SHEARED(ToolStatsKeys::getSheepSheared, ValueType.INTEGER, "sheep-sheared", "{sheep}", "sheep-sheared", (settings, _) -> settings.sheepSheared),
+    DAMAGE_TAKEN(ToolStatsKeys::getArmorDamage, ValueType.DOUBLE, "damage-taken", "{damage}", "damage-taken", (settings, _) -> settings.armorDamage),
+    DAMAGE_DONE(ToolStatsKeys::getDamageDone, ValueType.DOUBLE, "damage-done", "{damage}", "damage-done", toggle(ItemToggle.DAMAGE_DONE)),
+    ARROWS_SHOT(ToolStatsKeys::getArrowsShot, ValueType.INTEGER, "arrows-shot", "{arrows}", "arrows-shot", (settings, _) -> settings.arrowsShot),
+    WITHER_KILLS(ToolStatsKeys::getWitherKills, ValueType.INTEGER, "bosses-killed.wither", "{kills}", "wither-kills", (settings, _) -> settings.witherKills),
+    ENDER_DRAGON_KILLS(ToolStatsKeys::getEnderDragonKills, ValueType.INTEGER, "bosses-killed.enderdragon", "{kills}", "enderdragon-kills", (settings, _) -> settings.enderDragonKills),
+    CRITICAL_STRIKES(ToolStatsKeys::getCriticalStrikes, ValueType.INTEGER, "critical-strikes", "{strikes}", "critical-strikes", (settings, _) -> settings.criticalStrikes),
+    TRIDENT_THROWS(ToolStatsKeys::getTridentThrows, ValueType.INTEGER, "trident-throws", "{times}", "trident-throws", (settings, _) -> settings.tridentThrows),
+    LOGS_STRIPPED(ToolStatsKeys::getLogsStripped, ValueType.INTEGER, "logs-stripped", "{logs}", "logs-stripped", (settings, _) -> settings.logsStripped);
+
+    private final Function<ToolStatsKeys, NamespacedKey> key;
+    private final ValueType valueType;
+    private final String message;
+    private final String placeHolder;
+    private final String tokenName;
+    private final BiPredicate<Settings, Material> enabled;
+    private int bit;
+
+    // the bit each stat uses when stored in a mask, such as applied tokens or a StatRecord
+    // these are saved on items, so never reorder them, new stats must go at the end
+    private static final StatType[] BITS = {
+            FLIGHT_TIME,
+            PLAYER_KILLS,
+            MOB_KILLS,
+            CROPS_HARVESTED,
+            BLOCKS_MINED,
+            FISH_CAUGHT,
+            SHEEP_SHEARED,
+            DAMAGE_TAKEN,
+            DAMAGE_DONE,
+            ARROWS_SHOT,
+            WITHER_KILLS,
+            ENDER_DRAGON_KILLS,
+            CRITICAL_STRIKES,
+            TRIDENT_THROWS,
+            LOGS_STRIPPED
+    };
+
+    static {
+        for (int i = 0; i < BITS.length; i++) {
+            BITS[i].bit = i;
+        }
+    }
+
+    StatType(Function<ToolStatsKeys, NamespacedKey> key, ValueType valueType, String message, String placeHolder, String tokenName, BiPredicate<Settings, Material> enabled) {
+        this.key = key;
+        this.valueType = valueType;
+        this.message = message;
+        this.placeHolder = placeHolder;
+        this.tokenName = tokenName;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the key this stat is stored under.
+     *
+     * @param keys The plugin's keys.
+     * @return The key.
+     */
+    public NamespacedKey getKey(ToolStatsKeys keys) {
+        return key.apply(keys);
+    }
+
+    /**
+     * The bit this stat uses when stored in a mask.
+     */
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * This stat's bit as a mask.
+     */
+    public long getMask() {
+        return 1L << bit;
+    }
+
+    /**
+     * Find a stat by its bit.
+     *
+     * @param bit The bit.
+     * @return The stat, null if no stat uses this bit.
+     */
+    public static StatType fromBit(int bit) {
+        if (bit < 0 || bit >= BITS.length) {
+            return null;
+        }
+        return BITS[bit];
+    }
+
+    /**
+     * How many bits are used by stats.
+     */
+    public static int bitCount() {
+        return BITS.length;
+    }
+
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * The message for this stat, relative to messages in the config.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * The placeholder in the message, null for flight time, which has its own format.
+     */
+    public String getPlaceHolder() {
+        return placeHolder;
+    }
+
+    /**
+     * The token that allows this stat to be tracked.
+     */
+    public String getTokenName() {
+        return tokenName;
+    }
+
+    /**
+     * Check if this stat is enabled for an item type.
+     *
+     * @param settings The current settings.
+     * @param material The item type.
+     * @return True if it's enabled.
+     */
+    public boolean isEnabled(Settings settings, Material material) {
+        return enabled.test(settings, material);
+    }
+
+    /**
+     * Read this stat from a container.
+     *
+     * @param container The container.
+     * @param keys      The plugin's keys.
+     * @return The value, null if it's not set.
+     */
+    public Number read(PersistentDataContainerView container, ToolStatsKeys keys) {
+        NamespacedKey statKey = getKey(keys);
+        return switch (valueType) {
+            case INTEGER -> container.has(statKey, PersistentDataType.INTEGER) ? container.get(statKey, PersistentDataType.INTEGER) : null;
+            case DOUBLE -> container.has(statKey, PersistentDataType.DOUBLE) ? container.get(statKey, PersistentDataType.DOUBLE) : null;
+            case DURATION -> container.has(statKey, PersistentDataType.LONG) ? container.get(statKey, PersistentDataType.LONG) : null;
+        };
+    }
+
+    /**
+     * Write this stat to a container.
+     *
+     * @param container The container.
+     * @param keys      The plugin's keys.
+     * @param value     The value to write.
+     */
+    public void write(PersistentDataContainer container, ToolStatsKeys keys, Number value) {
+        NamespacedKey statKey = getKey(keys);
+        switch (valueType) {
+            case INTEGER -> container.set(statKey, PersistentDataType.INTEGER, value.intValue());
+            case DOUBLE -> container.set(statKey, PersistentDataType.DOUBLE, value.doubleValue());
+            case DURATION -> container.set(statKey, PersistentDataType.LONG, value.longValue());
+        }
+    }
+
+    /**
+     * Find a stat by name. This is the token name, or the enum name
+     * in lowercase with dashes, such as crops-harvested.
+     *
+     * @param name The name.
+     * @return The stat, null if there is none.
+     */
+    public static StatType fromName(String name) {
+        for (StatType stat : values()) {
+            if (stat.tokenName.equalsIgnoreCase(name) || stat.name().replace('_', '-').equalsIgnoreCase(name)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+
+    private static BiPredicate<Settings, Material> toggle(ItemToggle toggle) {
+        return (settings, material) -> settings.isEnabled(material, toggle);
+    }
+
+    /**
+     * How a stat is stored and shown.
+     */
+    public enum ValueType {
+        INTEGER,
+        DOUBLE,
+        // stored as a long in ms, shown with the flight-time format
+        DURATION;
+
+        public Number zero() {
+            return switch (this) {
+                case INTEGER -> 0;
+                case DOUBLE -> 0.0;
+                case DURATION -> 0L;
+            };
+        }
+
+        public Number add(Number a, Number b) {
+            return switch (this) {
+                case INTEGER -> a.intValue() + b.intValue();
+                case DOUBLE -> a.doubleValue() + b.doubleValue();
+                case DURATION -> a.longValue() + b.longValue();
+            };
+        }
+
+        public Number negate(Number a) {
+            return switch (this) {
+                case INTEGER -> -a.intValue();
+                case DOUBLE -> -a.doubleValue();
+                case DURATION -> -a.longValue();
+            };
+        }
+    }
+}
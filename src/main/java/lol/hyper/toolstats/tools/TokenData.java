@@ -35,14 +35,19 @@ import java.util.*;
 public class TokenData {
 
     private final ToolStats toolStats;
-    private final Set<ShapedRecipe> recipes = new HashSet<>();
-    private final ArrayList<String> tokenTypes = new ArrayList<>();
+    // both are replaced whole on reload, never edited in place
+    private volatile Set<ShapedRecipe> recipes = Set.of();
+    private volatile List<String> tokenTypes = List.of();
 
     public TokenData(ToolStats toolStats) {
         this.toolStats = toolStats;
     }
 
     public void setup() {
+        // build new collections so a reload never shows a half built list
+        Set<ShapedRecipe> recipes = new HashSet<>();
+        List<String> tokenTypes = new ArrayList<>();
+
         NamespacedKey playerKillsKey = new NamespacedKey(toolStats, "player-kills-token");
         ShapedRecipe playerKillRecipe = new ShapedRecipe(playerKillsKey, createToken("player-kills"));
         playerKillRecipe.shape(" P ", "PSP", " P ");
@@ -177,20 +182,23 @@ public class TokenData {
         tokenTypes.add("critical-strikes");
         tokenTypes.add("trident-throws");
         tokenTypes.add("logs-stripped");
+
+        this.recipes = Collections.unmodifiableSet(recipes);
+        this.tokenTypes = Collections.unmodifiableList(tokenTypes);
     }
 
     public Set<ShapedRecipe> getRecipes() {
         return recipes;
     }
 
-    public ArrayList<String> getTokenTypes() {
+    public List<String> getTokenTypes() {
         return tokenTypes;
     }
 
     public ItemStack createToken(String tokenType) {
         // we don't have to check if the token exists
         // we do that prior
-        ConfigurationSection tokenConfig = toolStats.config.getConfigurationSection("tokens.data." + tokenType);
+        ConfigurationSection tokenConfig = toolStats.settings.config.getConfigurationSection("tokens.data." + tokenType);
 
         String materialFromConfig = tokenConfig.getString("material");
         if (materialFromConfig == null) {
@@ -210,7 +218,7 @@ public class TokenData {
         PersistentDataContainer tokenData = tokenMeta.getPersistentDataContainer();
 
         // set the title and lore
-        String titleFromConfig = toolStats.config.getString("tokens.data." + tokenType + ".title");
+        String titleFromConfig = toolStats.settings.config.getString("tokens.data." + tokenType + ".title");
         Component title = toolStats.textUtils.format(titleFromConfig);
         List<Component> lore = toolStats.configTools.getTokenLore(tokenType);
         tokenMeta.displayName(title);
@@ -38,6 +38,13 @@ public class ToolStatsKeys {
     private NamespacedKey tridentThrows;
     private NamespacedKey originType;
     private NamespacedKey logsStripped;
+    private NamespacedKey loreIndex;
+    private NamespacedKey shownStats;
+    private NamespacedKey statRecord;
+    private NamespacedKey tokens;
+    private NamespacedKey dataVersion;
+    private NamespacedKey pendingStats;
+    private NamespacedKey bufferId;
 
     public void make() {
         itemOwner = new NamespacedKey(toolStats, "owner");
@@ -63,6 +70,13 @@ public class ToolStatsKeys {
         tridentThrows = new NamespacedKey(toolStats, "trident-throws");
         originType = new NamespacedKey(toolStats, "origin");
         logsStripped = new NamespacedKey(toolStats, "logs-stripped");
+        loreIndex = new NamespacedKey(toolStats, "lore-index");
+        shownStats = new NamespacedKey(toolStats, "shown-stats");
+        statRecord = new NamespacedKey(toolStats, "stats");
+        tokens = new NamespacedKey(toolStats, "tokens");
+        dataVersion = new NamespacedKey(toolStats, "data-version");
+        pendingStats = new NamespacedKey(toolStats, "pending-stats");
+        bufferId = new NamespacedKey(toolStats, "buffer-id");
 
         // save which stat can be used by a reset token
         tokenKeys.add(blocksMined);
@@ -145,10 +159,21 @@ public class ToolStatsKeys {
         return tokenType;
     }
 
+    /**
+     * The old applied tokens, as a comma separated list of token names.
+     * Replaced by {@link #getTokens()}, only read to upgrade items.
+     */
     public NamespacedKey getTokenApplied() {
         return tokenApplied;
     }
 
+    /**
+     * The applied tokens, as a mask of {@link StatType#getMask()}.
+     */
+    public NamespacedKey getTokens() {
+        return tokens;
+    }
+
     public NamespacedKey getWitherKills() {
         return witherKills;
     }
@@ -169,6 +194,53 @@ public class ToolStatsKeys {
         return logsStripped;
     }
 
+    /**
+     * Stores where each stat's line is in the lore.
+     * See {@link LoreIndex}.
+     */
+    public NamespacedKey getLoreIndex() {
+        return loreIndex;
+    }
+
+    /**
+     * Stores what the lore still shows for stats that changed
+     * since the lore was last rendered, when lazy lore is on.
+     */
+    public NamespacedKey getShownStats() {
+        return shownStats;
+    }
+
+    /**
+     * Stores every stat packed together, when compact-stats is on.
+     * See {@link StatRecord}.
+     */
+    public NamespacedKey getStatRecord() {
+        return statRecord;
+    }
+
+    /**
+     * The version of the item's data. See {@link ItemUpgrader}.
+     */
+    public NamespacedKey getDataVersion() {
+        return dataVersion;
+    }
+
+    /**
+     * Stores the stats a thrown trident collected during its flight, on the trident entity.
+     * See {@link TridentStats}.
+     */
+    public NamespacedKey getPendingStats() {
+        return pendingStats;
+    }
+
+    /**
+     * A random id given to an item the first time it has stats buffered,
+     * so buffered stats are never written to a different item. See {@link StatBuffer}.
+     */
+    public NamespacedKey getBufferId() {
+        return bufferId;
+    }
+
     /**
      * Stores how an item was created.
      * 0 = crafted.
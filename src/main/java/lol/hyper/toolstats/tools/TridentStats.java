@@ -0,0 +1,105 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools;
+
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Trident;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Collects stats for a thrown trident on the trident entity, instead of rewriting its item on every hit.
+ * Everything is added to the item at once when a player picks the trident back up,
+ * or when it drops as an item.
+ * The stats are stored in the entity's PDC, so they are saved with the entity if its chunk unloads.
+ */
+public class TridentStats {
+
+    private final ToolStats toolStats;
+
+    public TridentStats(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Add to a stat on a thrown trident.
+     *
+     * @param trident The trident entity.
+     * @param stat    The stat to update.
+     * @param add     How much to add.
+     */
+    public void add(Trident trident, StatType stat, Number add) {
+        add(trident, Map.of(stat, add));
+    }
+
+    /**
+     * Add to several stats on a thrown trident.
+     *
+     * @param trident The trident entity.
+     * @param changes How much to add to each stat.
+     */
+    public void add(Trident trident, Map<StatType, Number> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        NamespacedKey pendingKey = toolStats.toolStatsKeys.getPendingStats();
+        PersistentDataContainer container = trident.getPersistentDataContainer();
+        PersistentDataContainer pending = container.get(pendingKey, PersistentDataType.TAG_CONTAINER);
+        if (pending == null) {
+            pending = container.getAdapterContext().newPersistentDataContainer();
+        }
+        for (Map.Entry<StatType, Number> entry : changes.entrySet()) {
+            StatType stat = entry.getKey();
+            Number value = stat.read(pending, toolStats.toolStatsKeys);
+            Number newValue = value == null ? entry.getValue() : stat.getValueType().add(value, entry.getValue());
+            stat.write(pending, toolStats.toolStatsKeys, newValue);
+        }
+        container.set(pendingKey, PersistentDataType.TAG_CONTAINER, pending);
+    }
+
+    /**
+     * Move the stats a trident collected onto its item.
+     *
+     * @param trident The trident entity.
+     * @param item    The trident's item, which is edited in place.
+     * @return True if the item was changed.
+     */
+    public boolean merge(Trident trident, ItemStack item) {
+        NamespacedKey pendingKey = toolStats.toolStatsKeys.getPendingStats();
+        PersistentDataContainer container = trident.getPersistentDataContainer();
+        PersistentDataContainer pending = container.get(pendingKey, PersistentDataType.TAG_CONTAINER);
+        if (pending == null) {
+            return false;
+        }
+        container.remove(pendingKey);
+
+        Map<StatType, Number> changes = new EnumMap<>(StatType.class);
+        for (StatType stat : StatType.values()) {
+            Number value = stat.read(pending, toolStats.toolStatsKeys);
+            if (value != null) {
+                changes.put(stat, value);
+            }
+        }
+        return toolStats.itemLore.updateStats(item, changes);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+import lol.hyper.toolstats.ToolStats;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ShapedRecipe;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConfigReloader {
+
+    private final ToolStats toolStats;
+    private final AtomicBoolean reloading = new AtomicBoolean(false);
+
+    /**
+     * Reloads the config without blocking the server.
+     * The config is read and compiled on an async thread, then only what changed
+     * is swapped in on the global region thread.
+     *
+     * @param toolStats ToolStats instance.
+     */
+    public ConfigReloader(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Reload the config.
+     *
+     * @param sender Who ran the reload, they will be told when it's done.
+     */
+    public void reload(CommandSender sender) {
+        if (!reloading.compareAndSet(false, true)) {
+            sender.sendMessage(Component.text("The configuration is already being reloaded.", NamedTextColor.RED));
+            return;
+        }
+
+        Bukkit.getAsyncScheduler().runNow(toolStats, _ -> {
+            try {
+                YamlConfiguration newConfig = YamlConfiguration.loadConfiguration(toolStats.configFile);
+                if (newConfig.getInt("config-version") != toolStats.CONFIG_VERSION) {
+                    toolStats.logger.warn("Your config file is outdated! We will try to update it, but you should regenerate it!");
+                    new ConfigUpdater(toolStats).updateConfig(newConfig);
+                }
+
+                toolStats.configSchema.validate(newConfig);
+                Settings oldSettings = toolStats.settings;
+                Settings newSettings = new Settings(toolStats, newConfig, oldSettings);
+                Bukkit.getGlobalRegionScheduler().execute(toolStats, () -> {
+                    try {
+                        apply(sender, oldSettings, newSettings);
+                    } finally {
+                        reloading.set(false);
+                    }
+                });
+            } catch (Exception exception) {
+                toolStats.logger.error("Unable to reload config.yml!", exception);
+                sender.sendMessage(Component.text("Unable to reload the configuration, check the console for errors.", NamedTextColor.RED));
+                reloading.set(false);
+            }
+        });
+    }
+
+    /**
+     * Swap in the new config, only rebuilding what changed.
+     * The config, formats and settings all live in one snapshot, so they are swapped together.
+     */
+    private void apply(CommandSender sender, Settings oldSettings, Settings newSettings) {
+        toolStats.settings = newSettings;
+
+        if (newSettings.worldLimitChanged(oldSettings)) {
+            toolStats.configTools.rebuildWorldCache();
+        }
+        if (newSettings.messagesChanged(oldSettings)) {
+            toolStats.configTools.clearLoreCache();
+        }
+        if (newSettings.tokensChanged(oldSettings)) {
+            updateRecipes(sender, oldSettings, newSettings);
+        }
+        if (newSettings.lazyLoreChanged(oldSettings)) {
+            toolStats.lazyLore.startSweep();
+        }
+        toolStats.listenerManager.update(newSettings);
+        sender.sendMessage(Component.text("Configuration reloaded!", NamedTextColor.GREEN));
+    }
+
+    /**
+     * Rebuild the token recipes, and add or remove them from the server.
+     */
+    private void updateRecipes(CommandSender sender, Settings oldSettings, Settings newSettings) {
+        if (oldSettings.tokensEnabled && oldSettings.craftTokens) {
+            for (ShapedRecipe recipe : toolStats.tokenData.getRecipes()) {
+                Bukkit.removeRecipe(recipe.getKey());
+            }
+        }
+        toolStats.tokenData.setup();
+        if (newSettings.tokensEnabled && newSettings.craftTokens) {
+            for (ShapedRecipe recipe : toolStats.tokenData.getRecipes()) {
+                Bukkit.addRecipe(recipe);
+            }
+        }
+
+        // if the server went from tokens off -> on, or on -> off, let them know
+        if (newSettings.tokensEnabled != oldSettings.tokensEnabled) {
+            if (newSettings.tokensEnabled) {
+                sender.sendMessage(Component.text("It looks like you ENABLED the token system. While this is fine, it can break. Please restart your server instead.", NamedTextColor.YELLOW));
+            } else {
+                sender.sendMessage(Component.text("It looks like you DISABLED the token system. While this is fine, it can break. Please restart your server instead.", NamedTextColor.YELLOW));
+            }
+        }
+    }
+}
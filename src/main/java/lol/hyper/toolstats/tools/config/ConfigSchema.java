@@ -0,0 +1,140 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConfigSchema {
+
+    private final ToolStats toolStats;
+    // every value in the default config, keyed by path
+    // the type of each value is the type we expect
+    private final Map<String, Object> defaults = new LinkedHashMap<>();
+
+    /**
+     * Checks a loaded config against the default config that ships with the plugin.
+     *
+     * @param toolStats ToolStats instance.
+     */
+    public ConfigSchema(ToolStats toolStats) {
+        this.toolStats = toolStats;
+
+        InputStream stream = toolStats.getResource("config.yml");
+        if (stream == null) {
+            toolStats.logger.warn("Unable to find the default config.yml! Config validation is disabled.");
+            return;
+        }
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            YamlConfiguration defaultConfig = YamlConfiguration.loadConfiguration(reader);
+            for (String key : defaultConfig.getKeys(true)) {
+                Object value = defaultConfig.get(key);
+                if (value instanceof ConfigurationSection || isIgnored(key)) {
+                    continue;
+                }
+                defaults.put(key, value);
+            }
+        } catch (IOException exception) {
+            toolStats.logger.error("Unable to read the default config.yml!", exception);
+        }
+    }
+
+    /**
+     * Check every expected key in the config. Missing or invalid values are set
+     * to their defaults in memory, and all problems are logged in one report.
+     *
+     * @param config The config to check.
+     */
+    public void validate(YamlConfiguration config) {
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : defaults.entrySet()) {
+            String key = entry.getKey();
+            Object defaultValue = entry.getValue();
+            Object value = config.get(key);
+            if (value == null) {
+                problems.add(key + " is missing, using default " + defaultValue);
+                config.set(key, defaultValue);
+                continue;
+            }
+            if (!isSameType(defaultValue, value)) {
+                problems.add(key + " should be " + getTypeName(defaultValue) + " but is " + value + ", using default " + defaultValue);
+                config.set(key, defaultValue);
+            }
+        }
+
+        if (problems.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder();
+        report.append("Found ").append(problems.size()).append(" problem(s) in config.yml. You should fix these or regenerate your config:");
+        for (String problem : problems) {
+            report.append("\n  - ").append(problem);
+        }
+        toolStats.logger.warn(report.toString());
+    }
+
+    /**
+     * Keys that are up to the user, so we don't check them.
+     */
+    private boolean isIgnored(String key) {
+        return key.equals("config-version") || key.equals("world-limit.worlds") || key.startsWith("messages.mobs.");
+    }
+
+    private boolean isSameType(Object expected, Object value) {
+        if (expected instanceof Boolean) {
+            return value instanceof Boolean;
+        }
+        if (expected instanceof Number) {
+            return value instanceof Number;
+        }
+        if (expected instanceof String) {
+            return value instanceof String;
+        }
+        if (expected instanceof List) {
+            return value instanceof List;
+        }
+        return expected.getClass().isInstance(value);
+    }
+
+    private String getTypeName(Object expected) {
+        if (expected instanceof Boolean) {
+            return "true/false";
+        }
+        if (expected instanceof Number) {
+            return "a number";
+        }
+        if (expected instanceof String) {
+            return "text";
+        }
+        if (expected instanceof List) {
+            return "a list";
+        }
+        return expected.getClass().getSimpleName();
+    }
+}
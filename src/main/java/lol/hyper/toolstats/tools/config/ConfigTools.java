@@ -20,18 +20,22 @@ package lol.hyper.toolstats.tools.config;
 import lol.hyper.toolstats.ToolStats;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.World;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigTools {
 
     private final ToolStats toolStats;
+    private volatile Map<UUID, Boolean> worldCache = new ConcurrentHashMap<>();
+    private final LoreCache loreCache = new LoreCache(1024);
 
     public ConfigTools(ToolStats toolStats) {
         this.toolStats = toolStats;
@@ -40,104 +44,58 @@ public class ConfigTools {
     /**
      * Checks the config to see if we want to show lore on certain items.
      *
-     * @param material   The item type to check.
-     * @param configName The config we are checking under.
+     * @param material The item type to check.
+     * @param toggle   The config section we are checking under.
      * @return If we want to add data or not.
      */
-    public boolean checkConfig(Material material, String configName) {
-        if (toolStats.config.getConfigurationSection("enabled." + configName) == null) {
-            toolStats.logger.warn("Missing config section for enabled{}", configName);
-            return false;
-        }
-
-        String itemName = material.toString().toLowerCase();
-        String itemType = null;
-        // hardcode these
-        if (material == Material.BOW || material == Material.CROSSBOW || material == Material.SHEARS || material == Material.TRIDENT || material == Material.FISHING_ROD || material == Material.SHIELD) {
-            switch (material) {
-                case CROSSBOW:
-                case BOW: {
-                    itemType = "bow";
-                    break;
-                }
-                case SHEARS: {
-                    itemType = "shears";
-                    break;
-                }
-                case TRIDENT: {
-                    itemType = "trident";
-                    break;
-                }
-                case FISHING_ROD: {
-                    itemType = "fishing-rod";
-                    break;
-                }
-                case SHIELD: {
-                    itemType = "shield";
-                    break;
-                }
-            }
-        } else {
-            itemType = itemName.substring(itemName.indexOf('_') + 1);
-        }
-        return switch (itemType) {
-            case "pickaxe" -> toolStats.config.getBoolean("enabled." + configName + ".pickaxe");
-            case "sword" -> toolStats.config.getBoolean("enabled." + configName + ".sword");
-            case "shovel" -> toolStats.config.getBoolean("enabled." + configName + ".shovel");
-            case "axe" -> toolStats.config.getBoolean("enabled." + configName + ".axe");
-            case "hoe" -> toolStats.config.getBoolean("enabled." + configName + ".hoe");
-            case "shears" -> toolStats.config.getBoolean("enabled." + configName + ".shears");
-            case "crossbow", "bow" -> toolStats.config.getBoolean("enabled." + configName + ".bow");
-            case "trident" -> toolStats.config.getBoolean("enabled." + configName + ".trident");
-            case "fishing-rod" -> toolStats.config.getBoolean("enabled." + configName + ".fishing-rod");
-            case "mace" -> toolStats.config.getBoolean("enabled." + configName + ".mace");
-            case "spear" -> toolStats.config.getBoolean("enabled." + configName + ".spear");
-            case "shield" -> toolStats.config.getBoolean("enabled." + configName + ".shield");
-            case "helmet", "chestplate", "leggings", "boots" ->
-                    toolStats.config.getBoolean("enabled." + configName + ".armor");
-            default -> false;
-        };
+    public boolean checkConfig(Material material, ItemToggle toggle) {
+        return toolStats.settings.isEnabled(material, toggle);
     }
 
     /**
      * Check the status of a world from the config.
      *
-     * @param worldName The world to check.
+     * @param world The world to check.
      * @return True if we can work in this world, false if not.
      */
-    public boolean checkWorld(String worldName) {
-        boolean enabled = toolStats.config.getBoolean("world-limit.enabled");
-        // if the system is disabled, all worlds are allowed
-        if (!enabled) {
-            return true;
-        }
-
-        String mode = toolStats.config.getString("world-limit.mode");
-        if (mode == null) {
-            toolStats.logger.info("world-limit.mode is not set, not allowing any worlds by default.");
-            return false;
+    public boolean checkWorld(World world) {
+        Boolean allowed = worldCache.get(world.getUID());
+        if (allowed == null) {
+            allowed = cacheWorld(world);
         }
+        return allowed;
+    }
 
-        List<String> worlds = toolStats.config.getStringList("world-limit.worlds");
-        // if no worlds are defined, deny them
-        if (worlds.isEmpty()) {
-            return false;
-        }
+    /**
+     * Work out if a world is allowed and cache it.
+     *
+     * @param world The world to cache.
+     * @return True if we can work in this world, false if not.
+     */
+    public boolean cacheWorld(World world) {
+        boolean allowed = toolStats.settings.isWorldAllowed(world.getName());
+        worldCache.put(world.getUID(), allowed);
+        return allowed;
+    }
 
-        if (mode.equalsIgnoreCase("blacklist")) {
-            // this world is on list and mode = blacklisted
-            // don't allow this world, allow others not on list
-            return !worlds.contains(worldName);
-        }
+    /**
+     * Remove a world from the cache.
+     *
+     * @param world The world to remove.
+     */
+    public void uncacheWorld(World world) {
+        worldCache.remove(world.getUID());
+    }
 
-        if (mode.equalsIgnoreCase("whitelist")) {
-            // this world is on list and mode = whitelisted
-            // allow it. if the world is not on list, don't allow it
-            return worlds.contains(worldName);
+    /**
+     * Rebuild the world cache for all loaded worlds. Called when the config is loaded.
+     */
+    public void rebuildWorldCache() {
+        Map<UUID, Boolean> newCache = new ConcurrentHashMap<>();
+        for (World world : Bukkit.getWorlds()) {
+            newCache.put(world.getUID(), toolStats.settings.isWorldAllowed(world.getName()));
         }
-
-        toolStats.logger.warn("Unknown worlds.mode '{}', denying by default.", mode);
-        return false;
+        worldCache = newCache;
     }
 
     /**
@@ -149,77 +107,54 @@ public class ConfigTools {
      * @return Formatted string, null if the configName doesn't exist.
      */
     public Component formatLore(String configName, String placeHolder, Object value) {
-        String lore = toolStats.config.getString("messages." + configName);
-        if (lore == null) {
-            toolStats.logger.warn("Unable to find config message for: messages.{}", configName);
+        // missing messages are filled in when the config is loaded
+        LoreTemplate template = toolStats.settings.getMessage(configName);
+        // if the config message is empty, don't send it
+        if (template == null || template.isEmpty()) {
             return null;
         }
 
-        // if the config message is empty, don't send it
-        if (lore.isEmpty()) {
-            return null;
+        if (placeHolder == null || value == null) {
+            return template.render(null, null);
         }
 
-        // the final component for this lore
-        Component component;
+        String formattedValue = String.valueOf(value);
+        Component component = loreCache.get(template, formattedValue);
+        if (component == null) {
+            component = template.render(placeHolder, formattedValue);
+            loreCache.put(template, formattedValue, component);
+        }
+        return component;
+    }
 
-        // set the placeholder to the value
-        if (placeHolder != null && value != null) {
-            lore = lore.replace(placeHolder, String.valueOf(value));
+    /**
+     * Clear the rendered lore cache. Called when the config is loaded.
+     */
+    public void clearLoreCache() {
+        if (loreCache.getHits() + loreCache.getMisses() > 0) {
+            toolStats.logger.info("Clearing lore cache: {} lines, {} hits, {} misses.", loreCache.size(), loreCache.getHits(), loreCache.getMisses());
         }
+        loreCache.clear();
+    }
 
-        component = toolStats.textUtils.format(lore);
-        return component.decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
+    public LoreCache getLoreCache() {
+        return loreCache;
     }
 
     /**
-     * Format a string with several placeholders to be ready for lore usage.
+     * Format a flight time to be ready for lore usage.
      *
-     * @param configName         The message to use.
-     * @param placeHoldersValues Map containing placeholders names as keys and values.
-     * @return Formatted string, null if the configName doesn't exist.
+     * @param time The flight time in ms.
+     * @return Formatted string, null if the flight-time message doesn't exist.
      */
-    public Component formatLoreMultiplePlaceholders(String configName, Map<String, String> placeHoldersValues) {
-        String lore = toolStats.config.getString("messages." + configName);
-        if (lore == null) {
-            toolStats.logger.warn("Unable to find config message for: messages.{}", configName);
-            return null;
-        }
-
+    public Component formatFlightTime(long time) {
+        DurationTemplate template = toolStats.settings.getFlightTimeMessage();
         // if the config message is empty, don't send it
-        if (lore.isEmpty()) {
+        if (template == null || template.isEmpty()) {
             return null;
         }
 
-        Pattern pattern = Pattern.compile("\\{([^}]+)\\}(\\S*)\\s*");
-        Matcher matcher = pattern.matcher(lore);
-
-        StringBuilder result = new StringBuilder();
-        int lastEnd = 0;
-
-        while (matcher.find()) {
-            String placeholder = matcher.group(1);
-            String unit = matcher.group(2);
-
-            result.append(lore, lastEnd, matcher.start());
-
-            if (placeHoldersValues.containsKey(placeholder)) {
-                result.append(placeHoldersValues.get(placeholder)).append(unit).append(" ");
-            }
-
-            // Update lastEnd to end of the match
-            lastEnd = matcher.end();
-        }
-        if (lastEnd < lore.length()) {
-            result.append(lore.substring(lastEnd));
-        }
-
-        Component component;
-        // Clean output text
-        String outputText = result.toString().replaceAll("\\s+", " ").trim();
-        component = toolStats.textUtils.format(outputText);
-
-        return component.decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
+        return template.render(time);
     }
 
     /**
@@ -229,7 +164,7 @@ public class ConfigTools {
      * @return The lore.
      */
     public List<Component> getTokenLore(String tokenType) {
-        List<String> raw = toolStats.config.getStringList("tokens.data." + tokenType + ".lore");
+        List<String> raw = toolStats.settings.config.getStringList("tokens.data." + tokenType + ".lore");
         if (raw.isEmpty()) {
             return Collections.emptyList();
         }
@@ -237,7 +172,7 @@ public class ConfigTools {
         List<Component> finalLore = new ArrayList<>();
         for (String line : raw) {
             if (line.contains("{levels}")) {
-                Integer levels = toolStats.config.getInt("tokens.data." + tokenType + ".levels");
+                Integer levels = toolStats.settings.config.getInt("tokens.data." + tokenType + ".levels");
                 // will return 0 if it doesn't exist
                 if (levels != 0) {
                     line = line.replace("{levels}", String.valueOf(levels));
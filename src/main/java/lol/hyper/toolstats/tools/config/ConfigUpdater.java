@@ -19,6 +19,14 @@ package lol.hyper.toolstats.tools.config;
 
 import lol.hyper.toolstats.ToolStats;
 import lol.hyper.toolstats.tools.config.versions.*;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 public class ConfigUpdater {
 
@@ -28,23 +36,67 @@ public class ConfigUpdater {
         this.toolStats = toolStats;
     }
 
-    public void updateConfig() {
-        int version = toolStats.config.getInt("config-version");
-
-        switch (version) {
-            case 5 -> new Version6(toolStats).update(); // 5 to 6
-            case 6 -> new Version7(toolStats).update(); // 6 to 7
-            case 7 -> new Version8(toolStats).update(); // 7 to 8
-            case 8 -> new Version9(toolStats).update(); // 8 to 9
-            case 9 -> new Version10(toolStats).update(); // 9 to 10
-            case 10 -> new Version11(toolStats).update(); // 10 to 11
-            case 11 -> new Version12(toolStats).update(); // 11 to 12
-            case 12 -> new Version13(toolStats).update(); // 12 to 13
-            case 13 -> new Version14(toolStats).update(); // 13 to 14
-            case 14 -> new Version15(toolStats).update(); // 14 to 15
-            case 15 -> new Version16(toolStats).update(); // 15 to 16
-            case 16 -> new Version17(toolStats).update(); // 16 to 17
-            case 17 -> new Version18(toolStats).update(); // 17 to 18
+    /**
+     * Update a config to the current version. Every version step is applied in memory,
+     * then the old file is backed up once and the new one is written once.
+     * This does not touch the live config, so it's safe to run off the main thread.
+     *
+     * @param config The config loaded from config.yml.
+     */
+    public void updateConfig(YamlConfiguration config) {
+        int oldVersion = config.getInt("config-version");
+        int version = oldVersion;
+        while (version < toolStats.CONFIG_VERSION) {
+            switch (version) {
+                case 5 -> new Version6(toolStats).update(config); // 5 to 6
+                case 6 -> new Version7(toolStats).update(config); // 6 to 7
+                case 7 -> new Version8(toolStats).update(config); // 7 to 8
+                case 8 -> new Version9(toolStats).update(config); // 8 to 9
+                case 9 -> new Version10(toolStats).update(config); // 9 to 10
+                case 10 -> new Version11(toolStats).update(config); // 10 to 11
+                case 11 -> new Version12(toolStats).update(config); // 11 to 12
+                case 12 -> new Version13(toolStats).update(config); // 12 to 13
+                case 13 -> new Version14(toolStats).update(config); // 13 to 14
+                case 14 -> new Version15(toolStats).update(config); // 14 to 15
+                case 15 -> new Version16(toolStats).update(config); // 15 to 16
+                case 16 -> new Version17(toolStats).update(config); // 16 to 17
+                case 17 -> new Version18(toolStats).update(config); // 17 to 18
+                case 18 -> new Version19(toolStats).update(config); // 18 to 19
+                default -> {
+                    toolStats.logger.warn("Unable to update config.yml from version {}! You will need to regenerate it.", version);
+                    return;
+                }
+            }
+            version = config.getInt("config-version");
+        }
+        if (version == oldVersion) {
+            return;
+        }
+
+        Path dataFolder = toolStats.getDataFolder().toPath();
+        Path configPath = dataFolder.resolve("config.yml");
+        String backupName = "config-" + oldVersion + ".yml";
+        try {
+            Files.copy(configPath, dataFolder.resolve(backupName), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            toolStats.logger.error("Unable to save {}!", backupName, exception);
+            // don't overwrite the only copy of the old config
+            return;
+        }
+
+        try {
+            // write to a temp file first, so a crash never leaves a half written config
+            Path tempPath = dataFolder.resolve("config.yml.tmp");
+            Files.writeString(tempPath, config.saveToString(), StandardCharsets.UTF_8);
+            try {
+                Files.move(tempPath, configPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(tempPath, configPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            toolStats.logger.error("Unable to save config.yml!", exception);
+            return;
         }
+        toolStats.logger.info("Config has been updated from version {} to {}. A copy of version {} has been saved as {}", oldVersion, version, oldVersion, backupName);
     }
-}
\ No newline at end of file
+}
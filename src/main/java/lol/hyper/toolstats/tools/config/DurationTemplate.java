@@ -0,0 +1,237 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+import lol.hyper.hyperlib.utils.TextUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A config message with time unit placeholders, such as the flight-time message.
+ * Parsed once into text and unit slots, then rendered straight from milliseconds.
+ * Units that are zero are left out, along with their suffix.
+ * Rendered lines are cached by the unit values they show, so the formatter only
+ * runs the first time a duration is seen.
+ */
+public final class DurationTemplate {
+
+    private static final int YEARS = 0;
+    private static final int MONTHS = 1;
+    private static final int DAYS = 2;
+    private static final int HOURS = 3;
+    private static final int MINUTES = 4;
+    private static final int SECONDS = 5;
+    private static final int UNKNOWN = -1;
+
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+    private static final long SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+    private static final long SECONDS_PER_MONTH = 30 * SECONDS_PER_DAY; // Approximation
+    private static final long SECONDS_PER_YEAR = 365 * SECONDS_PER_DAY; // Approximation
+
+    private static final int CACHE_SIZE = 256;
+
+    private final TextUtils textUtils;
+    private final String raw;
+    // text between the slots, one more than there are slots
+    private final String[] text;
+    // which unit each slot is for
+    private final int[] units;
+    // what follows the number in each slot, such as "m" in {minutes}m
+    private final String[] suffixes;
+    // rendered lines, keyed by the packed unit values
+    private final Map<Long, Component> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Component> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private DurationTemplate(TextUtils textUtils, String raw, String[] text, int[] units, String[] suffixes) {
+        this.textUtils = textUtils;
+        this.raw = raw;
+        this.text = text;
+        this.units = units;
+        this.suffixes = suffixes;
+    }
+
+    /**
+     * Parse a config message into a template.
+     *
+     * @param textUtils TextUtils to format with.
+     * @param raw       The message from the config.
+     * @return The template.
+     */
+    public static DurationTemplate compile(TextUtils textUtils, String raw) {
+        List<String> text = new ArrayList<>();
+        List<Integer> units = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+
+        StringBuilder current = new StringBuilder();
+        int index = 0;
+        while (index < raw.length()) {
+            int open = raw.indexOf('{', index);
+            int close = open == -1 ? -1 : raw.indexOf('}', open);
+            // "{}" is not a placeholder, keep it as text
+            while (close == open + 1) {
+                open = raw.indexOf('{', open + 1);
+                close = open == -1 ? -1 : raw.indexOf('}', open);
+            }
+            if (close == -1) {
+                current.append(raw, index, raw.length());
+                break;
+            }
+
+            current.append(raw, index, open);
+            text.add(current.toString());
+            current.setLength(0);
+            units.add(getUnit(raw.substring(open + 1, close)));
+
+            // the suffix is everything up to the next space, then skip the spaces
+            int suffixEnd = close + 1;
+            while (suffixEnd < raw.length() && !isWhitespace(raw.charAt(suffixEnd))) {
+                suffixEnd++;
+            }
+            suffixes.add(raw.substring(close + 1, suffixEnd));
+            index = suffixEnd;
+            while (index < raw.length() && isWhitespace(raw.charAt(index))) {
+                index++;
+            }
+        }
+        text.add(current.toString());
+
+        int[] unitArray = units.stream().mapToInt(Integer::intValue).toArray();
+        return new DurationTemplate(textUtils, raw, text.toArray(new String[0]), unitArray, suffixes.toArray(new String[0]));
+    }
+
+    /**
+     * Check if this message is empty, which means it should not be shown.
+     *
+     * @return True if empty.
+     */
+    public boolean isEmpty() {
+        return raw.isEmpty();
+    }
+
+    /**
+     * Render this message for a duration.
+     *
+     * @param time The time in ms.
+     * @return The formatted component.
+     */
+    public Component render(long time) {
+        long totalSeconds = time / 1000;
+        long years = totalSeconds / SECONDS_PER_YEAR;
+        totalSeconds %= SECONDS_PER_YEAR;
+        long months = totalSeconds / SECONDS_PER_MONTH;
+        totalSeconds %= SECONDS_PER_MONTH;
+        long days = totalSeconds / SECONDS_PER_DAY;
+        totalSeconds %= SECONDS_PER_DAY;
+        long hours = totalSeconds / SECONDS_PER_HOUR;
+        totalSeconds %= SECONDS_PER_HOUR;
+        long minutes = totalSeconds / SECONDS_PER_MINUTE;
+        long seconds = totalSeconds % SECONDS_PER_MINUTE;
+        // always include seconds if everything else is zero
+        boolean showSeconds = seconds > 0 || (years == 0 && months == 0 && days == 0 && hours == 0 && minutes == 0);
+
+        // every unit but years has a small range, so they all pack into one key
+        // negative times don't pack, and are never cached
+        long key = time < 0 ? -1 : years << 26 | months << 22 | days << 17 | hours << 12 | minutes << 6 | seconds;
+        if (key != -1) {
+            Component cached;
+            synchronized (cache) {
+                cached = cache.get(key);
+            }
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        StringBuilder result = new StringBuilder(raw.length() + 16);
+        for (int i = 0; i < units.length; i++) {
+            result.append(text[i]);
+            long value = switch (units[i]) {
+                case YEARS -> years;
+                case MONTHS -> months;
+                case DAYS -> days;
+                case HOURS -> hours;
+                case MINUTES -> minutes;
+                case SECONDS -> seconds;
+                default -> 0;
+            };
+            if (value > 0 || (units[i] == SECONDS && showSeconds)) {
+                result.append(value).append(suffixes[i]).append(' ');
+            }
+        }
+        result.append(text[units.length]);
+
+        Component component = textUtils.format(collapseWhitespace(result))
+                .decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
+        if (key != -1) {
+            synchronized (cache) {
+                cache.put(key, component);
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Turn runs of whitespace into a single space and trim the ends.
+     */
+    private static String collapseWhitespace(CharSequence input) {
+        StringBuilder output = new StringBuilder(input.length());
+        boolean space = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space && !output.isEmpty()) {
+                output.append(' ');
+            }
+            space = false;
+            output.append(c);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Matches what regex \s counts as whitespace.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int getUnit(String placeHolder) {
+        return switch (placeHolder) {
+            case "years" -> YEARS;
+            case "months" -> MONTHS;
+            case "days" -> DAYS;
+            case "hours" -> HOURS;
+            case "minutes" -> MINUTES;
+            case "seconds" -> SECONDS;
+            default -> UNKNOWN;
+        };
+    }
+}
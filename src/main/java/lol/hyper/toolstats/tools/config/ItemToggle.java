@@ -0,0 +1,65 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+/**
+ * Sections under "enabled" that are toggled per item category (pickaxe, sword, armor, etc.).
+ */
+public enum ItemToggle {
+
+    CRAFTED_BY("crafted-by"),
+    CRAFTED_ON("crafted-on"),
+    FISHED_BY("fished-by"),
+    FISHED_ON("fished-on"),
+    LOOTED_BY("looted-by"),
+    LOOTED_ON("looted-on"),
+    TRADED_BY("traded-by"),
+    TRADED_ON("traded-on"),
+    SPAWNED_IN_BY("spawned-in-by"),
+    SPAWNED_IN_ON("spawned-in-on"),
+    DAMAGE_DONE("damage-done"),
+    PLAYER_KILLS("player-kills"),
+    MOB_KILLS("mob-kills"),
+    BLOCKS_MINED("blocks-mined");
+
+    private final String configName;
+    private final int mask;
+
+    ItemToggle(String configName) {
+        this.configName = configName;
+        this.mask = 1 << ordinal();
+    }
+
+    /**
+     * The name of this section under "enabled" in the config.
+     *
+     * @return The section name.
+     */
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * The bit this toggle uses in the enablement table.
+     *
+     * @return The bit mask.
+     */
+    public int getMask() {
+        return mask;
+    }
+}
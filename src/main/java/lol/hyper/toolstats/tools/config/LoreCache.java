@@ -0,0 +1,112 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size limited LRU cache of rendered lore lines, keyed by message and value.
+ * Components are immutable, so the same line can be shared between items.
+ * Messages are keyed by their compiled template, so lines rendered from an old
+ * config can never be returned after a reload.
+ */
+public final class LoreCache {
+
+    private final Map<Key, Component> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize How many lines to keep before the least recently used is removed.
+     */
+    public LoreCache(int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Component> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get a rendered line.
+     *
+     * @param message The message the line is for.
+     * @param value   The formatted value in the line.
+     * @return The line, null if it's not cached.
+     */
+    public Component get(LoreTemplate message, String value) {
+        Component component;
+        synchronized (cache) {
+            component = cache.get(new Key(message, value));
+        }
+        if (component == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return component;
+    }
+
+    /**
+     * Cache a rendered line.
+     *
+     * @param message   The message the line is for.
+     * @param value     The formatted value in the line.
+     * @param component The line.
+     */
+    public void put(LoreTemplate message, String value, Component component) {
+        synchronized (cache) {
+            cache.put(new Key(message, value), component);
+        }
+    }
+
+    /**
+     * Remove every line and reset the counters.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private record Key(LoreTemplate message, String value) {
+    }
+}
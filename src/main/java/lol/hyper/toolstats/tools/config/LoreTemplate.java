@@ -0,0 +1,193 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+import lol.hyper.hyperlib.utils.TextUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A config message parsed once into components, with a slot for its placeholder.
+ * Rendering a value only rebuilds the text component that holds the placeholder.
+ */
+public final class LoreTemplate {
+
+    // stands in for the placeholder while the message is parsed
+    private static final String SLOT = "\uE000";
+    // what we render with to make sure splicing gives the same result as formatting
+    private static final String TEST_VALUE = "0";
+
+    private final TextUtils textUtils;
+    private final String raw;
+    private final String placeHolder;
+    private final Component component;
+    // child indexes from the root to the text component holding the slot
+    // null if we can't splice this message and have to format it each time
+    private final int[] path;
+    private final String before;
+    private final String after;
+
+    private LoreTemplate(TextUtils textUtils, String raw, String placeHolder, Component component, int[] path, String before, String after) {
+        this.textUtils = textUtils;
+        this.raw = raw;
+        this.placeHolder = placeHolder;
+        this.component = component;
+        this.path = path;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Parse a config message into a template.
+     *
+     * @param textUtils TextUtils to format with.
+     * @param raw       The message from the config.
+     * @return The template.
+     */
+    public static LoreTemplate compile(TextUtils textUtils, String raw) {
+        if (raw.isEmpty()) {
+            return new LoreTemplate(textUtils, raw, null, null, null, null, null);
+        }
+
+        // find the placeholder, such as {player}
+        int open = raw.indexOf('{');
+        int close = open == -1 ? -1 : raw.indexOf('}', open);
+        if (close == -1) {
+            Component component = format(textUtils, raw);
+            return new LoreTemplate(textUtils, raw, null, component, null, null, null);
+        }
+        String placeHolder = raw.substring(open, close + 1);
+
+        Component component = format(textUtils, raw.replace(placeHolder, SLOT));
+        List<Integer> path = new ArrayList<>();
+        TextComponent slot = findSlot(component, path);
+        if (slot == null) {
+            return new LoreTemplate(textUtils, raw, placeHolder, component, null, null, null);
+        }
+
+        String content = slot.content();
+        int index = content.indexOf(SLOT);
+        int[] pathArray = path.stream().mapToInt(Integer::intValue).toArray();
+        LoreTemplate template = new LoreTemplate(textUtils, raw, placeHolder, component, pathArray, content.substring(0, index), content.substring(index + SLOT.length()));
+
+        // if splicing doesn't match a normal format, don't splice this one
+        if (!template.splice(template.component, 0, TEST_VALUE).equals(format(textUtils, raw.replace(placeHolder, TEST_VALUE)))) {
+            return new LoreTemplate(textUtils, raw, placeHolder, component, null, null, null);
+        }
+        return template;
+    }
+
+    /**
+     * Check if this message is empty, which means it should not be shown.
+     *
+     * @return True if empty.
+     */
+    public boolean isEmpty() {
+        return raw.isEmpty();
+    }
+
+    /**
+     * Render this message with a value.
+     *
+     * @param placeHolder The placeholder text in the message.
+     * @param value       The value to set the placeholder.
+     * @return The formatted component.
+     */
+    public Component render(String placeHolder, String value) {
+        if (placeHolder == null || value == null) {
+            return format(textUtils, raw);
+        }
+        if (path == null || !placeHolder.equals(this.placeHolder) || !isPlain(value)) {
+            return format(textUtils, raw.replace(placeHolder, value));
+        }
+        return splice(component, 0, value);
+    }
+
+    /**
+     * Rebuild the path down to the slot, swapping in the new text.
+     * Everything off the path is shared with the template.
+     */
+    private Component splice(Component node, int depth, String value) {
+        if (depth == path.length) {
+            return ((TextComponent) node).content(before + value + after);
+        }
+        List<Component> children = new ArrayList<>(node.children());
+        int index = path[depth];
+        children.set(index, splice(children.get(index), depth + 1, value));
+        return node.children(children);
+    }
+
+    /**
+     * Find the only text component that holds the slot.
+     *
+     * @param node The component to search.
+     * @param path The path to the slot, filled in as we search.
+     * @return The text component, null if there is not exactly one slot.
+     */
+    private static TextComponent findSlot(Component node, List<Integer> path) {
+        TextComponent found = null;
+        if (node instanceof TextComponent text && text.content().contains(SLOT)) {
+            String content = text.content();
+            if (content.indexOf(SLOT) != content.lastIndexOf(SLOT)) {
+                return null;
+            }
+            found = text;
+        }
+
+        List<Component> children = node.children();
+        for (int i = 0; i < children.size(); i++) {
+            int depth = path.size();
+            path.add(i);
+            TextComponent child = findSlot(children.get(i), path);
+            if (child != null) {
+                if (found != null) {
+                    // more than one slot
+                    return null;
+                }
+                found = child;
+            } else {
+                path.subList(depth, path.size()).clear();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Values with formatting characters have to go through the formatter.
+     *
+     * @param value The value.
+     * @return True if the value is safe to splice in as-is.
+     */
+    private static boolean isPlain(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '&' || c == '\u00A7' || c == '<' || c == '>' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Component format(TextUtils textUtils, String text) {
+        return textUtils.format(text).decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config;
+
+import lol.hyper.toolstats.ToolStats;
+import lol.hyper.toolstats.tools.NumberFormat;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the config, built once when the config is loaded.
+ * Listeners should read from this instead of looking up config paths on every event.
+ * The raw config and number formats are kept here too, so a reload swaps all of
+ * them in with a single write.
+ */
+public final class Settings {
+
+    // the config this was built from, never edited after loading
+    public final YamlConfiguration config;
+    public final NumberFormat numberFormat;
+
+    public final boolean tokensEnabled;
+    public final boolean craftTokens;
+    public final boolean allowCreative;
+    public final boolean generateHash;
+    public final boolean normalizeTimeCreation;
+
+    public final boolean cropsHarvested;
+    public final boolean fishCaught;
+    public final boolean sheepSheared;
+    public final boolean armorDamage;
+    public final boolean droppedBy;
+    public final boolean droppedOn;
+    public final boolean elytraTag;
+    public final boolean arrowsShot;
+    public final boolean flightTime;
+    public final boolean criticalStrikes;
+    public final boolean tridentThrows;
+    public final boolean logsStripped;
+    public final boolean witherKills;
+    public final boolean enderDragonKills;
+
+    public final boolean lazyLore;
+    public final int lazyLoreSweepInterval;
+    public final boolean statBuffer;
+    public final int statBufferFlushInterval;
+    public final boolean compactStats;
+
+    public final boolean worldLimitEnabled;
+    private final String worldLimitMode;
+    private final Set<String> worldLimitWorlds;
+
+    // the raw config values each piece was built from, used to see what changed on reload
+    private final Map<String, Object> messagesConfig;
+    private final Map<String, Object> tokensConfig;
+    private final Map<String, Object> formatsConfig;
+
+    // every message under messages, keyed by its path
+    private final Map<String, LoreTemplate> messages;
+    private final DurationTemplate flightTimeMessage;
+    // if the pre-version 11 flight time format is set, so we can remove it from elytras
+    public final boolean oldFlightTimeFormat;
+
+    // enabled toggles for each material, indexed by ordinal
+    // each entry is a bitset of ItemToggle masks
+    private final int[] itemToggles;
+    // every toggle that is enabled for at least one material
+    private final int anyItemToggles;
+
+    /**
+     * Compile the settings from a loaded config.
+     *
+     * @param toolStats ToolStats instance.
+     * @param config    The config to read from.
+     * @param previous  The current settings, so unchanged messages can be reused. Can be null.
+     */
+    public Settings(ToolStats toolStats, YamlConfiguration config, Settings previous) {
+        this.config = config;
+        this.tokensEnabled = config.getBoolean("tokens.enabled");
+        this.craftTokens = config.getBoolean("tokens.craft-tokens");
+        this.allowCreative = config.getBoolean("allow-creative");
+        this.generateHash = config.getBoolean("generate-hash-for-items");
+        this.normalizeTimeCreation = config.getBoolean("normalize-time-creation");
+
+        this.cropsHarvested = config.getBoolean("enabled.crops-harvested");
+        this.fishCaught = config.getBoolean("enabled.fish-caught");
+        this.sheepSheared = config.getBoolean("enabled.sheep-sheared");
+        this.armorDamage = config.getBoolean("enabled.armor-damage");
+        this.droppedBy = config.getBoolean("enabled.dropped-by");
+        this.droppedOn = config.getBoolean("enabled.dropped-on");
+        this.elytraTag = config.getBoolean("enabled.elytra-tag");
+        this.arrowsShot = config.getBoolean("enabled.arrows-shot");
+        this.flightTime = config.getBoolean("enabled.flight-time");
+        this.criticalStrikes = config.getBoolean("enabled.critical-strikes");
+        this.tridentThrows = config.getBoolean("enabled.trident-throws");
+        this.logsStripped = config.getBoolean("enabled.logs-stripped");
+        this.witherKills = config.getBoolean("enabled.bosses-killed.wither");
+        this.enderDragonKills = config.getBoolean("enabled.bosses-killed.enderdragon");
+
+        this.lazyLore = config.getBoolean("lazy-lore.enabled");
+        this.lazyLoreSweepInterval = Math.max(0, config.getInt("lazy-lore.sweep-interval"));
+        this.statBuffer = config.getBoolean("stat-buffer.enabled");
+        this.statBufferFlushInterval = Math.max(1, config.getInt("stat-buffer.flush-interval"));
+        this.compactStats = config.getBoolean("compact-stats");
+
+        this.worldLimitEnabled = config.getBoolean("world-limit.enabled");
+        String mode = config.getString("world-limit.mode");
+        this.worldLimitMode = mode == null ? null : mode.toLowerCase();
+        this.worldLimitWorlds = Set.copyOf(config.getStringList("world-limit.worlds"));
+        if (worldLimitEnabled) {
+            if (worldLimitMode == null) {
+                toolStats.logger.info("world-limit.mode is not set, not allowing any worlds by default.");
+            } else if (!worldLimitMode.equals("blacklist") && !worldLimitMode.equals("whitelist")) {
+                toolStats.logger.warn("Unknown world-limit.mode '{}', denying by default.", mode);
+            }
+        }
+
+        this.tokensConfig = flatten(config.getConfigurationSection("tokens"));
+        Map<String, Object> formats = new HashMap<>(flatten(config.getConfigurationSection("number-formats")));
+        formats.put("date-format", config.getString("date-format"));
+        this.formatsConfig = formats;
+        // only build new formatters if the formats changed
+        this.numberFormat = formatsChanged(previous) ? new NumberFormat(toolStats, config) : previous.numberFormat;
+
+        ConfigurationSection messagesSection = config.getConfigurationSection("messages");
+        this.messagesConfig = flatten(messagesSection);
+        if (previous != null && previous.messagesConfig.equals(messagesConfig)) {
+            // messages are the same, no need to compile them again
+            this.messages = previous.messages;
+            this.flightTimeMessage = previous.flightTimeMessage;
+        } else {
+            Map<String, LoreTemplate> templates = new HashMap<>();
+            for (Map.Entry<String, Object> entry : messagesConfig.entrySet()) {
+                if (entry.getValue() instanceof String message) {
+                    templates.put(entry.getKey(), LoreTemplate.compile(toolStats.textUtils, message));
+                }
+            }
+            this.messages = Map.copyOf(templates);
+            String flightTime = config.getString("messages.flight-time");
+            this.flightTimeMessage = flightTime == null ? null : DurationTemplate.compile(toolStats.textUtils, flightTime);
+        }
+        this.oldFlightTimeFormat = messages.containsKey("flight-time-old");
+
+        Material[] materials = Material.values();
+        this.itemToggles = new int[materials.length];
+        int anyToggles = 0;
+        for (Material material : materials) {
+            String category = getCategory(material);
+            if (category == null) {
+                continue;
+            }
+            int toggles = 0;
+            for (ItemToggle toggle : ItemToggle.values()) {
+                if (config.getBoolean("enabled." + toggle.getConfigName() + "." + category)) {
+                    toggles |= toggle.getMask();
+                }
+            }
+            itemToggles[material.ordinal()] = toggles;
+            anyToggles |= toggles;
+        }
+        this.anyItemToggles = anyToggles;
+    }
+
+    /**
+     * Check if a per item section is enabled for a material.
+     *
+     * @param material The item type to check.
+     * @param toggle   The section to check.
+     * @return If the section is enabled for this item type.
+     */
+    public boolean isEnabled(Material material, ItemToggle toggle) {
+        return (itemToggles[material.ordinal()] & toggle.getMask()) != 0;
+    }
+
+    /**
+     * Check if a per item section is enabled for any material.
+     *
+     * @param toggle The section to check.
+     * @return If the section is enabled for at least one item type.
+     */
+    public boolean isEnabledAnywhere(ItemToggle toggle) {
+        return (anyItemToggles & toggle.getMask()) != 0;
+    }
+
+    /**
+     * Check if any messages changed compared to other settings.
+     *
+     * @param other The settings to compare to.
+     * @return True if the messages are different.
+     */
+    public boolean messagesChanged(Settings other) {
+        return other == null || !messagesConfig.equals(other.messagesConfig);
+    }
+
+    /**
+     * Check if anything under tokens changed compared to other settings.
+     *
+     * @param other The settings to compare to.
+     * @return True if the token settings are different.
+     */
+    public boolean tokensChanged(Settings other) {
+        return other == null || !tokensConfig.equals(other.tokensConfig);
+    }
+
+    /**
+     * Check if the date or number formats changed compared to other settings.
+     *
+     * @param other The settings to compare to.
+     * @return True if the formats are different.
+     */
+    public boolean formatsChanged(Settings other) {
+        return other == null || !formatsConfig.equals(other.formatsConfig);
+    }
+
+    /**
+     * Check if the world-limit settings changed compared to other settings.
+     *
+     * @param other The settings to compare to.
+     * @return True if the world-limit settings are different.
+     */
+    public boolean worldLimitChanged(Settings other) {
+        return other == null || worldLimitEnabled != other.worldLimitEnabled || !Objects.equals(worldLimitMode, other.worldLimitMode) || !worldLimitWorlds.equals(other.worldLimitWorlds);
+    }
+
+    /**
+     * Check if the lazy-lore settings changed compared to other settings.
+     *
+     * @param other The settings to compare to.
+     * @return True if the lazy-lore settings are different.
+     */
+    public boolean lazyLoreChanged(Settings other) {
+        return other == null || lazyLore != other.lazyLore || lazyLoreSweepInterval != other.lazyLoreSweepInterval;
+    }
+
+    /**
+     * Get the compiled template for a message.
+     *
+     * @param configName The message, relative to messages.
+     * @return The template, null if the message doesn't exist.
+     */
+    public LoreTemplate getMessage(String configName) {
+        return messages.get(configName);
+    }
+
+    /**
+     * Get the compiled template for the flight-time message.
+     *
+     * @return The template, null if the message doesn't exist.
+     */
+    public DurationTemplate getFlightTimeMessage() {
+        return flightTimeMessage;
+    }
+
+    /**
+     * Check the world-limit settings to see if a world is allowed.
+     *
+     * @param worldName The world to check.
+     * @return True if we can work in this world, false if not.
+     */
+    public boolean isWorldAllowed(String worldName) {
+        // if the system is disabled, all worlds are allowed
+        if (!worldLimitEnabled) {
+            return true;
+        }
+        // if no mode or worlds are defined, deny them
+        if (worldLimitMode == null || worldLimitWorlds.isEmpty()) {
+            return false;
+        }
+        return switch (worldLimitMode) {
+            // this world is on list and mode = blacklisted
+            // don't allow this world, allow others not on list
+            case "blacklist" -> !worldLimitWorlds.contains(worldName);
+            // this world is on list and mode = whitelisted
+            // allow it. if the world is not on list, don't allow it
+            case "whitelist" -> worldLimitWorlds.contains(worldName);
+            default -> false;
+        };
+    }
+
+    /**
+     * Get every value under a section, without the sections themselves.
+     *
+     * @param section The section.
+     * @return The values, keyed by their path in the section.
+     */
+    private static Map<String, Object> flatten(ConfigurationSection section) {
+        if (section == null) {
+            return Map.of();
+        }
+        Map<String, Object> values = new HashMap<>();
+        for (String key : section.getKeys(true)) {
+            Object value = section.get(key);
+            if (value != null && !(value instanceof ConfigurationSection)) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Get the config category of an item, such as pickaxe or armor.
+     *
+     * @param material The item type.
+     * @return The category, null if there is none.
+     */
+    private static String getCategory(Material material) {
+        // hardcode these
+        switch (material) {
+            case BOW, CROSSBOW -> {
+                return "bow";
+            }
+            case SHEARS -> {
+                return "shears";
+            }
+            case TRIDENT -> {
+                return "trident";
+            }
+            case FISHING_ROD -> {
+                return "fishing-rod";
+            }
+            case SHIELD -> {
+                return "shield";
+            }
+        }
+
+        String itemName = material.toString().toLowerCase();
+        String itemType = itemName.substring(itemName.indexOf('_') + 1);
+        return switch (itemType) {
+            case "pickaxe", "sword", "shovel", "axe", "hoe", "mace", "spear" -> itemType;
+            case "helmet", "chestplate", "leggings", "boots" -> "armor";
+            default -> null;
+        };
+    }
+}
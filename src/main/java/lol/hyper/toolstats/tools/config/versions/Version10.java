@@ -18,9 +18,7 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version10 {
 
@@ -37,43 +35,29 @@ public class Version10 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-9.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-9.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         // we make this super verbose so that admins can see what's being added
         toolStats.logger.info("Updating config.yml to version 10.");
-        toolStats.config.set("config-version", 10);
+        config.set("config-version", 10);
 
         // Add missing values I forgot...
         toolStats.logger.info("Adding entry for enabled.created-by.fishing-rod");
-        toolStats.config.set("enabled.created-by.fishing-rod", true);
+        config.set("enabled.created-by.fishing-rod", true);
         toolStats.logger.info("Adding entry for enabled.created-date.fishing-rod");
-        toolStats.config.set("enabled.created-date.fishing-rod", true);
+        config.set("enabled.created-date.fishing-rod", true);
         toolStats.logger.info("Adding entry for enabled.fished-tag.fishing-rod");
-        toolStats.config.set("enabled.fished-tag.fishing-rod", true);
+        config.set("enabled.fished-tag.fishing-rod", true);
         toolStats.logger.info("Adding entry for enabled.looted-tag.fishing-rod");
-        toolStats.config.set("enabled.looted-tag.fishing-rod", true);
+        config.set("enabled.looted-tag.fishing-rod", true);
         toolStats.logger.info("Adding entry for enabled.traded-tag.fishing-rod");
-        toolStats.config.set("enabled.traded-tag.fishing-rod", true);
+        config.set("enabled.traded-tag.fishing-rod", true);
         toolStats.logger.info("Adding entry for enabled.spawned-in.fishing-rod");
-        toolStats.config.set("enabled.spawned-in.fishing-rod", true);
+        config.set("enabled.spawned-in.fishing-rod", true);
 
         toolStats.logger.info("Adding entry for enabled.crops-harvested");
-        toolStats.config.set("enabled.crops-harvested", true);
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 10. A copy of version 9 has been saved as config-9.yml");
+        config.set("enabled.crops-harvested", true);
     }
 }
@@ -19,9 +19,7 @@ package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
 import org.bukkit.configuration.ConfigurationSection;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version12 {
 
@@ -38,78 +36,63 @@ public class Version12 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-11.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-11.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         toolStats.logger.info("Updating config.yml to version 12.");
-        toolStats.config.set("config-version", 12);
+        config.set("config-version", 12);
 
-        transfer("enabled.created-by", "enabled.crafted-by");
-        transfer("enabled.created-date", "enabled.crafted-on");
+        transfer(config, "enabled.created-by", "enabled.crafted-by");
+        transfer(config, "enabled.created-date", "enabled.crafted-on");
 
-        transfer("enabled.fished-tag", "enabled.fished-by");
-        transfer("enabled.fished-tag", "enabled.fished-on");
+        transfer(config, "enabled.fished-tag", "enabled.fished-by");
+        transfer(config, "enabled.fished-tag", "enabled.fished-on");
 
-        transfer("enabled.looted-tag", "enabled.looted-by");
-        transfer("enabled.looted-tag", "enabled.looted-on");
+        transfer(config, "enabled.looted-tag", "enabled.looted-by");
+        transfer(config, "enabled.looted-tag", "enabled.looted-on");
 
-        transfer("enabled.traded-tag", "enabled.traded-by");
-        transfer("enabled.traded-tag", "enabled.traded-on");
+        transfer(config, "enabled.traded-tag", "enabled.traded-by");
+        transfer(config, "enabled.traded-tag", "enabled.traded-on");
 
-        transfer("enabled.spawned-in", "enabled.spawned-in-by");
-        transfer("enabled.spawned-in", "enabled.spawned-in-on");
+        transfer(config, "enabled.spawned-in", "enabled.spawned-in-by");
+        transfer(config, "enabled.spawned-in", "enabled.spawned-in-on");
 
-        transfer("messages.created", "messages.crafted");
+        transfer(config, "messages.created", "messages.crafted");
 
-        toolStats.config.set("enabled.created-by", null);
-        toolStats.config.set("enabled.created-date", null);
-        toolStats.config.set("enabled.fished-tag", null);
-        toolStats.config.set("enabled.looted-tag", null);
-        toolStats.config.set("enabled.traded-tag", null);
-        toolStats.config.set("enabled.spawned-in", null);
+        config.set("enabled.created-by", null);
+        config.set("enabled.created-date", null);
+        config.set("enabled.fished-tag", null);
+        config.set("enabled.looted-tag", null);
+        config.set("enabled.traded-tag", null);
+        config.set("enabled.spawned-in", null);
 
         toolStats.logger.info("Adding enabled.dropped-on");
-        boolean droppedBy = toolStats.config.getBoolean("enabled.dropped-by");
-        toolStats.config.set("enabled.dropped-on", droppedBy);
+        boolean droppedBy = config.getBoolean("enabled.dropped-by");
+        config.set("enabled.dropped-on", droppedBy);
 
         toolStats.logger.info("Adding messages.dropped-on");
-        toolStats.config.set("messages.dropped-on", "&7Dropped on: &8{date}");
-
+        config.set("messages.dropped-on", "&7Dropped on: &8{date}");
 
         // rename crafted to crafted here
         // copy the old ones first
-        String craftedByMessage = toolStats.config.getString("messages.created.created-by");
-        String craftedOnMessage = toolStats.config.getString("messages.created.created-on");
+        String craftedByMessage = config.getString("messages.created.created-by");
+        String craftedOnMessage = config.getString("messages.created.created-on");
 
-        toolStats.config.set("messages.created", null);
-        toolStats.config.set("messages.crafted.created-by", null);
-        toolStats.config.set("messages.crafted.created-on", null);
+        config.set("messages.created", null);
+        config.set("messages.crafted.created-by", null);
+        config.set("messages.crafted.created-on", null);
 
-        toolStats.config.set("messages.crafted.crafted-by", craftedByMessage);
-        toolStats.config.set("messages.crafted.crafted-on", craftedOnMessage);
+        config.set("messages.crafted.crafted-by", craftedByMessage);
+        config.set("messages.crafted.crafted-on", craftedOnMessage);
 
         toolStats.logger.info("Adding normalize-time-creation");
-        toolStats.config.set("normalize-time-creation", false);
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 12. A copy of version 11 has been saved as config-11.yml");
+        config.set("normalize-time-creation", false);
     }
 
-    private void transfer(String oldSection, String newSection) {
+    private void transfer(YamlConfiguration config, String oldSection, String newSection) {
         toolStats.logger.info("Moving {} to {}", oldSection, newSection);
-        ConfigurationSection old = toolStats.config.getConfigurationSection(oldSection);
-        toolStats.config.set(newSection, old);
+        ConfigurationSection old = config.getConfigurationSection(oldSection);
+        config.set(newSection, old);
     }
 }
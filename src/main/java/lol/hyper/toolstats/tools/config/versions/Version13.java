@@ -18,9 +18,7 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version13 {
 
@@ -37,36 +35,22 @@ public class Version13 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-12.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-12.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         toolStats.logger.info("Updating config.yml to version 13.");
-        toolStats.config.set("config-version", 13);
+        config.set("config-version", 13);
 
-        for (String key : toolStats.config.getConfigurationSection("tokens.data").getKeys(false)) {
+        for (String key : config.getConfigurationSection("tokens.data").getKeys(false)) {
             toolStats.logger.info("Adding tokens.data.{}.material", key);
-            toolStats.config.set("tokens.data." + key + ".material", "PAPER");
+            config.set("tokens.data." + key + ".material", "PAPER");
             toolStats.logger.info("Adding tokens.data.{}.custom-model-data.enabled", key);
-            toolStats.config.set("tokens.data." + key + ".custom-model-data.enabled", false);
+            config.set("tokens.data." + key + ".custom-model-data.enabled", false);
             toolStats.logger.info("Adding tokens.data.{}.custom-model-data.type", key);
-            toolStats.config.set("tokens.data." + key + ".custom-model-data.type", "float");
+            config.set("tokens.data." + key + ".custom-model-data.type", "float");
             toolStats.logger.info("Adding tokens.data.{}.custom-model-data.value", key);
-            toolStats.config.set("tokens.data." + key + ".custom-model-data.value", 1001);
-        }
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
+            config.set("tokens.data." + key + ".custom-model-data.value", 1001);
         }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 13. A copy of version 12 has been saved as config-12.yml");
     }
 }
@@ -18,9 +18,7 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version14 {
 
@@ -37,52 +35,39 @@ public class Version14 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-13.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-13.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         toolStats.logger.info("Updating config.yml to version 14.");
-        toolStats.config.set("config-version", 14);
+        config.set("config-version", 14);
 
         // add spear to sections to be a toggle
-        toolStats.config.set("enabled.crafted-by.spear", true);
+        config.set("enabled.crafted-by.spear", true);
         toolStats.logger.info("Adding enabled.crafted-by.spear");
 
-        toolStats.config.set("enabled.crafted-on.spear", true);
+        config.set("enabled.crafted-on.spear", true);
         toolStats.logger.info("Adding enabled.crafted-on.spear");
 
-        toolStats.config.set("enabled.looted-by.spear", true);
+        config.set("enabled.looted-by.spear", true);
         toolStats.logger.info("Adding enabled.looted-by.spear");
 
-        toolStats.config.set("enabled.looted-on.spear", true);
+        config.set("enabled.looted-on.spear", true);
         toolStats.logger.info("Adding enabled.looted-on.spear");
 
-        toolStats.config.set("enabled.damage-done.spear", true);
+        config.set("enabled.damage-done.spear", true);
         toolStats.logger.info("Adding enabled.damage-done.spear");
 
-        toolStats.config.set("enabled.player-kills.spear", true);
+        config.set("enabled.player-kills.spear", true);
         toolStats.logger.info("Adding enabled.player-kills.spear");
 
-        toolStats.config.set("enabled.mob-kills.spear", true);
+        config.set("enabled.mob-kills.spear", true);
         toolStats.logger.info("Adding enabled.mob-kills.spear");
 
-        toolStats.config.set("enabled.spawned-in-by.spear", true);
+        config.set("enabled.spawned-in-by.spear", true);
         toolStats.logger.info("Adding enabled.spawned-in-by.spear");
 
-        toolStats.config.set("enabled.spawned-in-on.spear", true);
+        config.set("enabled.spawned-in-on.spear", true);
         toolStats.logger.info("Adding enabled.spawned-in-on.spear");
-
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 14. A copy of version 13 has been saved as config-13.yml");
     }
 }
@@ -18,9 +18,7 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version16 {
 
@@ -37,41 +35,27 @@ public class Version16 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-15.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-15.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         // we make this super verbose so that admins can see what's being added
         toolStats.logger.info("Updating config.yml to version 16.");
-        toolStats.config.set("config-version", 16);
+        config.set("config-version", 16);
 
         toolStats.logger.info("Adding enabled.crafted-on.shield to config.yml.");
-        toolStats.config.set("enabled.crafted-on.shield", true);
+        config.set("enabled.crafted-on.shield", true);
         toolStats.logger.info("Adding enabled.crafted-by.shield to config.yml.");
-        toolStats.config.set("enabled.crafted-by.shield", true);
+        config.set("enabled.crafted-by.shield", true);
 
         toolStats.logger.info("Adding enabled.traded-on.shield to config.yml.");
-        toolStats.config.set("enabled.traded-on.shield", true);
+        config.set("enabled.traded-on.shield", true);
         toolStats.logger.info("Adding enabled.traded-by.shield to config.yml.");
-        toolStats.config.set("enabled.traded-by.shield", true);
+        config.set("enabled.traded-by.shield", true);
 
         toolStats.logger.info("Adding enabled.looted-on.shield to config.yml.");
-        toolStats.config.set("enabled.looted-on.shield", true);
+        config.set("enabled.looted-on.shield", true);
         toolStats.logger.info("Adding enabled.looted-by.shield to config.yml.");
-        toolStats.config.set("enabled.looted-by.shield", true);
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 16. A copy of version 6 has been saved as config-15.yml");
+        config.set("enabled.looted-by.shield", true);
     }
 }
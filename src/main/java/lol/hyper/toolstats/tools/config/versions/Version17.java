@@ -18,9 +18,8 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
+import org.bukkit.configuration.file.YamlConfiguration;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.List;
 
 public class Version17 {
@@ -38,45 +37,30 @@ public class Version17 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-16.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-16.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         toolStats.logger.info("Updating config.yml to version 17.");
-        toolStats.config.set("config-version", 17);
+        config.set("config-version", 17);
 
         toolStats.logger.info("Adding new token to config: logs-stripped");
-        toolStats.config.set("tokens.data.logs-stripped.title", "&7ToolStats: &8Logs Stripped Token");
-        toolStats.config.set("tokens.data.logs-stripped.lore", List.of(
+        config.set("tokens.data.logs-stripped.title", "&7ToolStats: &8Logs Stripped Token");
+        config.set("tokens.data.logs-stripped.lore", List.of(
                 "&8Combine with an axe in an anvil to track logs stripped.",
                 "&8Uses &7{levels} &8level."
         ));
-        toolStats.config.set("tokens.data.logs-stripped.levels", 1);
-        toolStats.config.set("tokens.data.logs-stripped.material", "PAPER");
+        config.set("tokens.data.logs-stripped.levels", 1);
+        config.set("tokens.data.logs-stripped.material", "PAPER");
 
-        toolStats.config.set("tokens.data.logs-stripped.custom-model-data.enabled", false);
-        toolStats.config.set("tokens.data.logs-stripped.custom-model-data.type", "float");
-        toolStats.config.set("tokens.data.logs-stripped.custom-model-data.value", 1001);
+        config.set("tokens.data.logs-stripped.custom-model-data.enabled", false);
+        config.set("tokens.data.logs-stripped.custom-model-data.type", "float");
+        config.set("tokens.data.logs-stripped.custom-model-data.value", 1001);
 
         toolStats.logger.info("Adding enabled.logs-stripped");
-        toolStats.config.set("enabled.logs-stripped", true);
+        config.set("enabled.logs-stripped", true);
 
         toolStats.logger.info("Adding messages.logs-stripped");
-        toolStats.config.set("messages.logs-stripped", "&7Logs stripped: &8{logs}");
-
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 17. A copy of version 16 has been saved as config-16.yml");
+        config.set("messages.logs-stripped", "&7Logs stripped: &8{logs}");
     }
 }
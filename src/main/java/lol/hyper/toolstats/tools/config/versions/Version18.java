@@ -18,9 +18,7 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version18 {
 
@@ -37,32 +35,18 @@ public class Version18 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-17.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-17.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         toolStats.logger.info("Updating config.yml to version 18.");
-        toolStats.config.set("config-version", 18);
+        config.set("config-version", 18);
 
-        for (String key : toolStats.config.getConfigurationSection("tokens.data").getKeys(false)) {
+        for (String key : config.getConfigurationSection("tokens.data").getKeys(false)) {
             toolStats.logger.info("Adding tokens.data.{}.item-model.enabled", key);
-            toolStats.config.set("tokens.data." + key + ".item-model.enabled", false);
+            config.set("tokens.data." + key + ".item-model.enabled", false);
             toolStats.logger.info("Adding tokens.data.{}.item-model.value", key);
-            toolStats.config.set("tokens.data." + key + ".item-model.value", "minecraft:paper");
-        }
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
+            config.set("tokens.data." + key + ".item-model.value", "minecraft:paper");
         }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 18. A copy of version 17 has been saved as config-17.yml");
     }
 }
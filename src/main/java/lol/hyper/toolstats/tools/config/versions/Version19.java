@@ -0,0 +1,82 @@
+/*
+ * This file is part of ToolStats.
+ *
+ * ToolStats is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ToolStats is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with ToolStats.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package lol.hyper.toolstats.tools.config.versions;
+
+import lol.hyper.toolstats.ToolStats;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.List;
+
+public class Version19 {
+
+    private final ToolStats toolStats;
+
+    /**
+     * Used for updating from version 18 to 19.
+     *
+     * @param toolStats ToolStats instance.
+     */
+    public Version19(ToolStats toolStats) {
+        this.toolStats = toolStats;
+    }
+
+    /**
+     * Perform the config update.
+     *
+     * @param config The config to update.
+     */
+    public void update(YamlConfiguration config) {
+        toolStats.logger.info("Updating config.yml to version 19.");
+        config.set("config-version", 19);
+
+        toolStats.logger.info("Adding lazy-lore.enabled");
+        config.set("lazy-lore.enabled", false);
+        toolStats.logger.info("Adding lazy-lore.sweep-interval");
+        config.set("lazy-lore.sweep-interval", 100);
+
+        config.setComments("lazy-lore", List.of(
+                "Only update an item's lore when it can be seen, instead of every time a stat changes.",
+                "Stats are still saved right away. The lore is updated when the item is held, dropped, moved,",
+                "or when an inventory is opened. This can help on busy servers.",
+                "sweep-interval is how often (in ticks) every player's inventory is updated anyway. Set to 0 to turn off."
+        ));
+
+        toolStats.logger.info("Adding stat-buffer.enabled");
+        config.set("stat-buffer.enabled", false);
+        toolStats.logger.info("Adding stat-buffer.flush-interval");
+        config.set("stat-buffer.flush-interval", 20);
+
+        config.setComments("stat-buffer", List.of(
+                "Save up stat changes for the items players are holding, and write them to the item every few ticks.",
+                "This helps with plugins that break a lot of blocks at once, such as vein miners.",
+                "Stats are also written when the player switches items, drops an item, opens or clicks an inventory, dies or leaves.",
+                "flush-interval is how long (in ticks) changes are saved up for.",
+                "Damage taken by armor is always saved up this way, even when this is off, since it can change every tick."
+        ));
+
+        toolStats.logger.info("Adding compact-stats");
+        config.set("compact-stats", false);
+        config.setComments("compact-stats", List.of(
+                "Store all stats on an item packed into one value, instead of one value per stat.",
+                "This makes items smaller to save and send to players. Items are moved over as their stats change.",
+                "Items saved this way can't be read by older versions of ToolStats.",
+                "Only stat values are packed. Tokens, origin, owner and hash keep their own keys,",
+                "so checking them never has to unpack the stats."
+        ));
+    }
+}
@@ -18,9 +18,7 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
-
-import java.io.File;
-import java.io.IOException;
+import org.bukkit.configuration.file.YamlConfiguration;
 
 public class Version7 {
 
@@ -37,32 +35,18 @@ public class Version7 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-6.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-6.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         // we make this super verbose so that admins can see what's being added
         toolStats.logger.info("Updating config.yml to version 7.");
-        toolStats.config.set("config-version", 7);
+        config.set("config-version", 7);
 
         toolStats.logger.info("Adding messages.flight-time to config.yml.");
-        toolStats.config.set("messages.flight-time", "&7Flight time: &8{time}");
+        config.set("messages.flight-time", "&7Flight time: &8{time}");
 
         toolStats.logger.info("Adding enabled.flight-time to config.yml.");
-        toolStats.config.set("enabled.flight-time", true);
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 7. A copy of version 6 has been saved as config-6.yml");
+        config.set("enabled.flight-time", true);
     }
 }
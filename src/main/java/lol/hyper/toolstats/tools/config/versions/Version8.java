@@ -18,9 +18,8 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
+import org.bukkit.configuration.file.YamlConfiguration;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,47 +38,33 @@ public class Version8 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-7.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-7.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         // we make this super verbose so that admins can see what's being added
         toolStats.logger.info("Updating config.yml to version 8.");
-        toolStats.config.set("config-version", 8);
+        config.set("config-version", 8);
 
         // Add example to setting mob names
         toolStats.logger.info("Adding example for messages.mob.ZOMBIE");
-        toolStats.config.set("messages.mob.ZOMBIE", "Zombie");
+        config.set("messages.mob.ZOMBIE", "Zombie");
 
         // Add mace to enabled sections
         toolStats.logger.info("Adding entry for enabled.created-by.mace");
-        toolStats.config.set("enabled.created-by.mace", true);
+        config.set("enabled.created-by.mace", true);
 
         toolStats.logger.info("Adding entry for enabled.created-date.mace");
-        toolStats.config.set("enabled.created-date.mace", true);
+        config.set("enabled.created-date.mace", true);
 
         toolStats.logger.info("Adding entry for enabled.player-kills.mace");
-        toolStats.config.set("enabled.player-kills.mace", true);
+        config.set("enabled.player-kills.mace", true);
 
         toolStats.logger.info("Adding entry for enabled.mob-kills.mace");
-        toolStats.config.set("enabled.mob-kills.mace", true);
+        config.set("enabled.mob-kills.mace", true);
 
         List<String> mobComments = new ArrayList<>();
         mobComments.add("Set display name for mobs. See: https://hub.spigotmc.org/javadocs/bukkit/org/bukkit/entity/EntityType.html");
-        toolStats.config.setComments("messages.mob", mobComments);
-
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 8. A copy of version 7 has been saved as config-7.yml");
+        config.setComments("messages.mob", mobComments);
     }
 }
@@ -18,9 +18,8 @@
 package lol.hyper.toolstats.tools.config.versions;
 
 import lol.hyper.toolstats.ToolStats;
+import org.bukkit.configuration.file.YamlConfiguration;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,63 +38,50 @@ public class Version9 {
 
     /**
      * Perform the config update.
+     *
+     * @param config The config to update.
      */
-    public void update() {
-        // save the old config first
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config-8.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config-8.yml!", exception);
-        }
-
+    public void update(YamlConfiguration config) {
         toolStats.logger.info("Updating config.yml to version 9.");
-        toolStats.config.set("config-version", 9);
+        config.set("config-version", 9);
 
         toolStats.logger.info("Adding new tokens configuration! Don't worry, this is disabled by default.");
         toolStats.logger.info("You can find more information here: https://github.com/hyperdefined/ToolStats/wiki/Token-System");
         // false by default so it doesn't break servers on updating
-        toolStats.config.set("tokens.enabled", false);
-        toolStats.config.set("tokens.craft-tokens", true);
+        config.set("tokens.enabled", false);
+        config.set("tokens.craft-tokens", true);
 
         List<String> tokenComments = new ArrayList<>();
         tokenComments.add("Use token system for tracking stats.");
         tokenComments.add("See https://github.com/hyperdefined/ToolStats/wiki/Token-System");
-        toolStats.config.setComments("tokens", tokenComments);
-
-        addToken("player-kills", "&7ToolStats: &8Player Kills Token", "&8Combine with a melee or ranged weapon in an anvil to track player kills.");
-        addToken("mob-kills", "&7ToolStats: &8Mob Kills Token", "&8Combine with a melee or ranged weapon in an anvil to track mob kills.");
-        addToken("blocks-mined", "&7ToolStats: &8Blocks Mined Token", "&8Combine with a pickaxe, axe, shovel, or shears in an anvil to track blocks mined.");
-        addToken("crops-mined", "&7ToolStats: &8Crops Mined Token", "&8Combine with a hoe in an anvil to track crops broken.");
-        addToken("fish-caught", "&7ToolStats: &8Fish Caught Token", "&8Combine with a fishing rod in an anvil to track fish caught.");
-        addToken("sheep-sheared", "&7ToolStats: &8Sheep Sheared Token", "&8Combine with shears in an anvil to track sheep sheared.");
-        addToken("damage-taken", "&7ToolStats: &8Damage Taken Token", "&8Combine with an armor piece in an anvil to track damage taken.");
-        addToken("arrows-shot", "&7ToolStats: &8Arrows Shot Token", "&8Combine with a bow or crossbow in an anvil to track arrows shot.");
-        addToken("flight-time", "&7ToolStats: &8Flight Time Token", "&8Combine with an elytra in an anvil to track flight time.");
-        addToken("reset", "&7ToolStats: &8Reset Token", "&8Combine in an anvil with to reset ALL stats for this item. Tokens on this item stay.");
+        config.setComments("tokens", tokenComments);
 
-        // save the config and reload it
-        try {
-            toolStats.config.save("plugins" + File.separator + "ToolStats" + File.separator + "config.yml");
-        } catch (IOException exception) {
-            toolStats.logger.error("Unable to save config.yml!", exception);
-        }
-        toolStats.loadConfig();
-        toolStats.logger.info("Config has been updated to version 9. A copy of version 8 has been saved as config-8.yml");
+        addToken(config, "player-kills", "&7ToolStats: &8Player Kills Token", "&8Combine with a melee or ranged weapon in an anvil to track player kills.");
+        addToken(config, "mob-kills", "&7ToolStats: &8Mob Kills Token", "&8Combine with a melee or ranged weapon in an anvil to track mob kills.");
+        addToken(config, "blocks-mined", "&7ToolStats: &8Blocks Mined Token", "&8Combine with a pickaxe, axe, shovel, or shears in an anvil to track blocks mined.");
+        addToken(config, "crops-mined", "&7ToolStats: &8Crops Mined Token", "&8Combine with a hoe in an anvil to track crops broken.");
+        addToken(config, "fish-caught", "&7ToolStats: &8Fish Caught Token", "&8Combine with a fishing rod in an anvil to track fish caught.");
+        addToken(config, "sheep-sheared", "&7ToolStats: &8Sheep Sheared Token", "&8Combine with shears in an anvil to track sheep sheared.");
+        addToken(config, "damage-taken", "&7ToolStats: &8Damage Taken Token", "&8Combine with an armor piece in an anvil to track damage taken.");
+        addToken(config, "arrows-shot", "&7ToolStats: &8Arrows Shot Token", "&8Combine with a bow or crossbow in an anvil to track arrows shot.");
+        addToken(config, "flight-time", "&7ToolStats: &8Flight Time Token", "&8Combine with an elytra in an anvil to track flight time.");
+        addToken(config, "reset", "&7ToolStats: &8Reset Token", "&8Combine in an anvil with to reset ALL stats for this item. Tokens on this item stay.");
     }
 
     /**
      * Add a given token to the config. Made this since I was lazy.
      *
+     * @param config    The config to add to.
      * @param tokenType The token type to add.
      * @param title     The title for the item.
      * @param lore      The lore of the item.
      */
-    private void addToken(String tokenType, String title, String lore) {
+    private void addToken(YamlConfiguration config, String tokenType, String title, String lore) {
         toolStats.logger.info("Adding token type configuration for {}", tokenType);
-        toolStats.config.set("tokens.data." + tokenType + ".title", title);
+        config.set("tokens.data." + tokenType + ".title", title);
         List<String> loreList = new ArrayList<>();
         loreList.add(lore);
-        toolStats.config.set("tokens.data." + tokenType + ".lore", loreList);
-        toolStats.config.set("tokens.data." + tokenType + ".levels", 1);
+        config.set("tokens.data." + tokenType + ".lore", loreList);
+        config.set("tokens.data." + tokenType + ".levels", 1);
     }
 }